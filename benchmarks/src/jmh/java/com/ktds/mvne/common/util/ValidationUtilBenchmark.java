@@ -0,0 +1,41 @@
+package com.ktds.mvne.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidationUtil의 입력값 검증 비용을 측정하는 벤치마크입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ValidationUtilBenchmark {
+
+    @Param({"01012345678", "0101234"})
+    private String phoneNumber;
+
+    @Param({"5GX_PREMIUM", "invalid-code"})
+    private String productCode;
+
+    @Benchmark
+    public boolean validatePhoneNumber() {
+        return ValidationUtil.validatePhoneNumber(phoneNumber);
+    }
+
+    @Benchmark
+    public boolean validateProductCode() {
+        return ValidationUtil.validateProductCode(productCode);
+    }
+
+    @Benchmark
+    public boolean validateEmail() {
+        return ValidationUtil.validateEmail("user@example.com");
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktds.mvne.kos.adapter.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KOSClientImpl의 요청 XML 필드 추출 비용을 측정하는 벤치마크입니다.
+ * 추출 메소드가 패키지 범위이므로 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KOSClientExtractorBenchmark {
+
+    private static final String BILLING_INFO_REQUEST = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\" " +
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+            "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">" +
+            "<soap:Body><BillingInfoRequest>" +
+            "<phoneNumber>01012345678</phoneNumber>" +
+            "<billingMonth>202403</billingMonth>" +
+            "</BillingInfoRequest></soap:Body></soap:Envelope>";
+
+    private static final String PRODUCT_INFO_REQUEST = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\" " +
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+            "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">" +
+            "<soap:Body><ProductInfoRequest>" +
+            "<productCode>5GX_PREMIUM</productCode>" +
+            "</ProductInfoRequest></soap:Body></soap:Envelope>";
+
+    @Benchmark
+    public String extractPhoneNumber() {
+        return KOSClientImpl.extractPhoneNumber(BILLING_INFO_REQUEST);
+    }
+
+    @Benchmark
+    public String extractBillingMonth() {
+        return KOSClientImpl.extractBillingMonth(BILLING_INFO_REQUEST);
+    }
+
+    @Benchmark
+    public String extractProductCode() {
+        return KOSClientImpl.extractProductCode(PRODUCT_INFO_REQUEST);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ktds.mvne.kos.adapter.util;
+
+import com.ktds.mvne.kos.adapter.dto.BillingInfoResponse;
+import com.ktds.mvne.kos.adapter.dto.BillingStatusResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XmlConverter의 SOAP 변환 비용을 측정하는 벤치마크입니다.
+ * 응답 XML은 kos-mock의 MockDataGenerator가 생성하는 형식과 동일합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XmlConverterBenchmark {
+
+    private static final String SOAP_PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\" " +
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+            "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">" +
+            "<soap:Body>";
+    private static final String SOAP_SUFFIX = "</soap:Body></soap:Envelope>";
+
+    static final String BILLING_INFO_RESPONSE = SOAP_PREFIX +
+            "<BillingInfoResponse>" +
+            "<phoneNumber>01012345678</phoneNumber>" +
+            "<billingMonth>202403</billingMonth>" +
+            "<totalFee>85450</totalFee>" +
+            "<details><itemCode>BASE_FEE</itemCode><itemName>기본 요금</itemName><amount>55300</amount></details>" +
+            "<details><itemCode>DATA_FEE</itemCode><itemName>데이터 요금</itemName><amount>10150</amount></details>" +
+            "<details><itemCode>SVC001</itemCode><itemName>부가서비스1</itemName><amount>5000</amount></details>" +
+            "<details><itemCode>SVC002</itemCode><itemName>부가서비스2</itemName><amount>3000</amount></details>" +
+            "<discounts><discountCode>DISC001</discountCode><discountName>장기고객 할인</discountName><amount>5000</amount></discounts>" +
+            "<discounts><discountCode>DISC002</discountCode><discountName>데이터 할인</discountName><amount>3000</amount></discounts>" +
+            "<deviceInstallment><deviceId>DEVICE123</deviceId><model>Galaxy S21</model>" +
+            "<amount>25000</amount><remainingMonths>18</remainingMonths></deviceInstallment>" +
+            "</BillingInfoResponse>" +
+            SOAP_SUFFIX;
+
+    static final String BILLING_STATUS_RESPONSE = SOAP_PREFIX +
+            "<BillingStatusResponse>" +
+            "<phoneNumber>01012345678</phoneNumber>" +
+            "<currentBillingMonth>202403</currentBillingMonth>" +
+            "<billingGenerated>true</billingGenerated>" +
+            "</BillingStatusResponse>" +
+            SOAP_SUFFIX;
+
+    @Param({"DOM", "STAX"})
+    private XmlConverter.Mode mode;
+
+    private XmlConverter xmlConverter;
+    private ProductChangeRequest changeRequest;
+
+    @Setup
+    public void setUp() {
+        xmlConverter = new XmlConverter(mode);
+        changeRequest = new ProductChangeRequest("01012345678", "5GX_PREMIUM", "데이터 사용량 증가");
+    }
+
+    @Benchmark
+    public String convertToSoapXml() {
+        return xmlConverter.convertToSoapXml(changeRequest);
+    }
+
+    @Benchmark
+    public BillingInfoResponse convertBillingInfoToJson() {
+        return xmlConverter.convertToJson(BILLING_INFO_RESPONSE, BillingInfoResponse.class);
+    }
+
+    @Benchmark
+    public BillingStatusResponse convertBillingStatusToJson() {
+        return xmlConverter.convertToJson(BILLING_STATUS_RESPONSE, BillingStatusResponse.class);
+    }
+
+    /**
+     * 어댑터의 상품 변경 요청과 동일한 형태의 요청 객체입니다.
+     */
+    public record ProductChangeRequest(String phoneNumber, String productCode, String changeReason) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.ktds.mvne.billing.actuator;
+
+import com.ktds.mvne.billing.service.BillingCacheWarmer;
+import com.ktds.mvne.common.exception.BizException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요금 캐시 적재 작업의 진행 상황 조회와 수동 실행을 제공하는 Actuator 엔드포인트입니다.
+ * 수동 실행은 전체 회선에 대한 KOS 조회를 일으키므로 기본적으로 웹에 노출하지 않으며,
+ * 필요한 환경에서만 내부 관리 포트 등에 {@code /actuator/billingwarmup}으로 노출합니다.
+ */
+@Component
+@Endpoint(id = "billingwarmup")
+@RequiredArgsConstructor
+public class BillingWarmupEndpoint {
+
+    private final BillingCacheWarmer billingCacheWarmer;
+
+    /**
+     * 현재 또는 마지막 캐시 적재 작업의 진행 상황과 처리량을 조회합니다.
+     *
+     * @return 진행 상황
+     */
+    @ReadOperation
+    public Map<String, Object> progress() {
+        BillingCacheWarmer.Progress progress = billingCacheWarmer.getProgress();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("state", progress.state());
+        body.put("billingMonth", progress.billingMonth());
+        body.put("startedAt", progress.startedAt());
+        body.put("finishedAt", progress.finishedAt());
+        body.put("scanned", progress.scanned());
+        body.put("alreadyCached", progress.alreadyCached());
+        body.put("warmed", progress.warmed());
+        body.put("notGenerated", progress.notGenerated());
+        body.put("failed", progress.failed());
+        body.put("warmedPerSecond", progress.warmedPerSecond());
+        return body;
+    }
+
+    /**
+     * 캐시 적재 작업을 수동으로 시작합니다.
+     * 캐시 적재가 비활성화되어 있거나 청구 년월이 잘못된 경우 시작하지 않습니다.
+     *
+     * @param billingMonth 청구 년월 (YYYYMM 형식, 당월 이전, 생략 시 당월)
+     * @return 시작 여부
+     */
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String billingMonth) {
+        String month = billingMonth != null && !billingMonth.isEmpty()
+                ? billingMonth
+                : YearMonth.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+        try {
+            return Map.of("billingMonth", month, "started", billingCacheWarmer.start(month));
+        } catch (BizException e) {
+            return Map.of("billingMonth", month, "started", false, "error", e.getDetail());
+        }
+    }
+
+    /**
+     * 진행 중인 캐시 적재 작업을 중단합니다.
+     *
+     * @return 중단 요청 여부
+     */
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        return Map.of("stopRequested", billingCacheWarmer.stop());
+    }
+}
@@ -107,6 +107,9 @@ public class KTAdapterImpl implements KTAdapter {
             }
 
             return response;
+        } catch (BizException e) {
+            // KOS 요청 오류(4xx)는 호출자가 구분할 수 있도록 그대로 전파
+            throw e;
         } catch (Exception e) {
             log.error("Error getting billing info for {}, {}: {}", phoneNumber, billingMonth, e.getMessage(), e);
             throw new ExternalSystemException("KT 영업시스템 연결 오류 getBillingInfo: " + e.getMessage(),
@@ -160,6 +163,9 @@ public class KTAdapterImpl implements KTAdapter {
             }
 
             return response;
+        } catch (BizException e) {
+            // KOS 요청 오류(4xx)는 호출자가 구분할 수 있도록 그대로 전파
+            throw e;
         } catch (Exception e) {
             log.error("Error getting customer info for {}: {}", phoneNumber, e.getMessage(), e);
             throw new ExternalSystemException("KT 영업시스템 연결 오류 getCustomerInfo: " + e.getMessage(),
@@ -181,7 +187,12 @@ public class KTAdapterImpl implements KTAdapter {
 
             log.error("KT Adapter error: {} - {}", status, ex.getResponseBodyAsString());
 
-            if (status.is4xxClientError()) {
+            // 404만 회선/요금 정보가 없다는 확정 응답으로 보고, 시간 초과와 요청 제한은 일시적 오류로 처리
+            if (status == HttpStatus.NOT_FOUND) {
+                return Mono.error(new BizException(ErrorCode.NOT_FOUND,
+                        "정보 없음: " + ex.getResponseBodyAsString()));
+            } else if (status.is4xxClientError()
+                    && status != HttpStatus.REQUEST_TIMEOUT && status != HttpStatus.TOO_MANY_REQUESTS) {
                 return Mono.error(new BizException(ErrorCode.BAD_REQUEST,
                         "요청 오류: " + ex.getResponseBodyAsString()));
             } else {
@@ -0,0 +1,37 @@
+package com.ktds.mvne.billing.cache;
+
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+
+import java.io.IOException;
+
+/**
+ * 캐시에 저장되는 요금 정보의 값 인코딩 방식을 정의하는 인터페이스입니다.
+ */
+public interface BillingInfoCodec {
+
+    /**
+     * 코덱 식별자를 반환합니다.
+     * 캐시 값 헤더에 기록되어 읽을 때 코덱을 선택하는 데 사용됩니다.
+     *
+     * @return 코덱 식별자
+     */
+    byte id();
+
+    /**
+     * 요금 정보를 바이트 배열로 인코딩합니다.
+     *
+     * @param billingInfo 요금 정보
+     * @return 인코딩된 바이트 배열
+     * @throws IOException 인코딩 실패 시
+     */
+    byte[] encode(BillingInfoResponseDTO billingInfo) throws IOException;
+
+    /**
+     * 바이트 배열을 요금 정보로 디코딩합니다.
+     *
+     * @param bytes 인코딩된 바이트 배열
+     * @return 요금 정보
+     * @throws IOException 디코딩 실패 시
+     */
+    BillingInfoResponseDTO decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,128 @@
+package com.ktds.mvne.billing.cache;
+
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 버전 헤더가 포함된 요금 정보 캐시 값 직렬화기입니다.
+ *
+ * <p>헤더 형식: [MAGIC][VERSION][CODEC_ID][FLAGS] 이후 코덱이 인코딩한 본문.
+ * 헤더가 없는 값은 이전 GenericJackson2JsonRedisSerializer 형식으로 간주하여 읽으므로
+ * 기존 캐시 항목이 만료되기 전에도 안전하게 배포할 수 있습니다.</p>
+ */
+@Slf4j
+public class BillingInfoRedisSerializer implements RedisSerializer<BillingInfoResponseDTO> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte VERSION = 1;
+    static final byte FLAG_GZIP = 0x01;
+    private static final int HEADER_LENGTH = 4;
+
+    private final BillingInfoCodec writeCodec;
+    private final BillingInfoCodec[] readCodecs;
+    private final int compressionThresholdBytes;
+    private final GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer();
+
+    /**
+     * BillingInfoRedisSerializer 생성자입니다.
+     *
+     * @param writeCodec 저장 시 사용할 코덱
+     * @param compressionThresholdBytes 이 크기를 넘는 본문은 gzip으로 압축
+     */
+    public BillingInfoRedisSerializer(BillingInfoCodec writeCodec, int compressionThresholdBytes) {
+        this.writeCodec = writeCodec;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        this.readCodecs = new BillingInfoCodec[]{new JsonBillingInfoCodec(), new BinaryBillingInfoCodec()};
+    }
+
+    @Override
+    public byte[] serialize(BillingInfoResponseDTO value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            byte[] body = writeCodec.encode(value);
+            byte flags = 0;
+            if (body.length > compressionThresholdBytes) {
+                body = gzip(body);
+                flags |= FLAG_GZIP;
+            }
+
+            byte[] result = new byte[HEADER_LENGTH + body.length];
+            result[0] = MAGIC;
+            result[1] = VERSION;
+            result[2] = writeCodec.id();
+            result[3] = flags;
+            System.arraycopy(body, 0, result, HEADER_LENGTH, body.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("요금 정보 캐시 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public BillingInfoResponseDTO deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            // 헤더가 없는 이전 JSON 형식
+            Object legacy = legacySerializer.deserialize(bytes);
+            if (legacy instanceof BillingInfoResponseDTO) {
+                return (BillingInfoResponseDTO) legacy;
+            }
+            log.warn("Unexpected legacy cache value type: {}", legacy == null ? null : legacy.getClass());
+            return null;
+        }
+
+        if (bytes.length < HEADER_LENGTH || bytes[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 요금 정보 캐시 형식입니다.");
+        }
+
+        try {
+            BillingInfoCodec codec = findCodec(bytes[2]);
+            byte[] body = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            if ((bytes[3] & FLAG_GZIP) != 0) {
+                body = gunzip(body);
+            }
+            return codec.decode(body);
+        } catch (IOException e) {
+            throw new SerializationException("요금 정보 캐시 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private BillingInfoCodec findCodec(byte id) {
+        for (BillingInfoCodec codec : readCodecs) {
+            if (codec.id() == id) {
+                return codec;
+            }
+        }
+        throw new SerializationException("알 수 없는 요금 정보 캐시 코덱입니다: " + id);
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
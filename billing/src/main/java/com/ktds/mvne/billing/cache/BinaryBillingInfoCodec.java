@@ -0,0 +1,129 @@
+package com.ktds.mvne.billing.cache;
+
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import com.ktds.mvne.billing.dto.DeviceInstallmentDTO;
+import com.ktds.mvne.billing.dto.DiscountDTO;
+import com.ktds.mvne.billing.dto.FeeDetailDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 필드 순서가 고정된 바이너리 형식으로 요금 정보를 인코딩하는 코덱입니다.
+ * 필드 이름이나 타입 정보를 저장하지 않으므로 필드 구성이 바뀌면 반드시 ID를 변경해야 합니다.
+ */
+public class BinaryBillingInfoCodec implements BillingInfoCodec {
+
+    public static final byte ID = 2;
+
+    private static final int NULL_LENGTH = -1;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(BillingInfoResponseDTO billingInfo) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(buffer);
+
+        writeString(out, billingInfo.getPhoneNumber());
+        writeString(out, billingInfo.getBillingMonth());
+        writeInteger(out, billingInfo.getTotalFee());
+
+        List<FeeDetailDTO> details = billingInfo.getDetails();
+        out.writeShort(details == null ? NULL_LENGTH : details.size());
+        if (details != null) {
+            for (FeeDetailDTO detail : details) {
+                writeString(out, detail.getItemCode());
+                writeString(out, detail.getItemName());
+                writeInteger(out, detail.getAmount());
+            }
+        }
+
+        List<DiscountDTO> discounts = billingInfo.getDiscounts();
+        out.writeShort(discounts == null ? NULL_LENGTH : discounts.size());
+        if (discounts != null) {
+            for (DiscountDTO discount : discounts) {
+                writeString(out, discount.getDiscountCode());
+                writeString(out, discount.getDiscountName());
+                writeInteger(out, discount.getAmount());
+            }
+        }
+
+        DeviceInstallmentDTO device = billingInfo.getDeviceInstallment();
+        out.writeBoolean(device != null);
+        if (device != null) {
+            writeString(out, device.getDeviceId());
+            writeString(out, device.getModel());
+            writeInteger(out, device.getAmount());
+            writeInteger(out, device.getRemainingMonths());
+        }
+
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public BillingInfoResponseDTO decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        BillingInfoResponseDTO billingInfo = new BillingInfoResponseDTO();
+        billingInfo.setPhoneNumber(readString(in));
+        billingInfo.setBillingMonth(readString(in));
+        billingInfo.setTotalFee(readInteger(in));
+
+        int detailCount = in.readShort();
+        if (detailCount != NULL_LENGTH) {
+            List<FeeDetailDTO> details = new ArrayList<>(detailCount);
+            for (int i = 0; i < detailCount; i++) {
+                details.add(new FeeDetailDTO(readString(in), readString(in), readInteger(in)));
+            }
+            billingInfo.setDetails(details);
+        }
+
+        int discountCount = in.readShort();
+        if (discountCount != NULL_LENGTH) {
+            List<DiscountDTO> discounts = new ArrayList<>(discountCount);
+            for (int i = 0; i < discountCount; i++) {
+                discounts.add(new DiscountDTO(readString(in), readString(in), readInteger(in)));
+            }
+            billingInfo.setDiscounts(discounts);
+        }
+
+        if (in.readBoolean()) {
+            billingInfo.setDeviceInstallment(new DeviceInstallmentDTO(
+                    readString(in), readString(in), readInteger(in), readInteger(in)));
+        }
+
+        return billingInfo;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ktds.mvne.billing.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+
+import java.io.IOException;
+
+/**
+ * 타입 메타데이터 없이 JSON으로 요금 정보를 인코딩하는 코덱입니다.
+ */
+public class JsonBillingInfoCodec implements BillingInfoCodec {
+
+    public static final byte ID = 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(BillingInfoResponseDTO billingInfo) throws IOException {
+        return objectMapper.writeValueAsBytes(billingInfo);
+    }
+
+    @Override
+    public BillingInfoResponseDTO decode(byte[] bytes) throws IOException {
+        return objectMapper.readValue(bytes, BillingInfoResponseDTO.class);
+    }
+}
@@ -1,17 +1,22 @@
 package com.ktds.mvne.billing.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * 비동기 처리를 위한 설정 클래스입니다.
+ * 비동기 처리 및 스케줄링을 위한 설정 클래스입니다.
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
     /**
@@ -29,4 +34,34 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 캐시 백그라운드 갱신을 위한 태스크 실행기 빈을 생성합니다.
+     * 동기화 이벤트 처리와 스레드를 공유하지 않도록 분리합니다.
+     *
+     * @return Executor 인스턴스
+     */
+    @Bean
+    public Executor cacheRefreshExecutor(
+            @Value("${cache.billing-info.stale-while-revalidate.pool-size:4}") int poolSize,
+            @Value("${cache.billing-info.stale-while-revalidate.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("billing-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 요금 조회 시 KT 어댑터와 캐시를 동시에 조회하기 위한 실행기 빈을 생성합니다.
+     * 작업 대부분이 I/O 대기이므로 가상 스레드를 사용합니다.
+     *
+     * @return ExecutorService 인스턴스
+     */
+    @Bean
+    public ExecutorService billingLookupExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("billing-lookup-", 0).factory());
+    }
 }
@@ -72,6 +72,160 @@ public class MetricsConfig {
                 .register(registry);
     }
 
+    /**
+     * L1(로컬) 캐시 히트 카운터를 생성합니다.
+     * Redis 조회 없이 로컬 캐시에서 요금정보를 찾은 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter cacheL1HitCounter(MeterRegistry registry) {
+        return Counter.builder("cache_l1_hit_total")
+                .description("로컬 캐시 히트 횟수")
+                .register(registry);
+    }
+
+    /**
+     * L1(로컬) 캐시 미스 카운터를 생성합니다.
+     * 로컬 캐시에 없어 Redis를 조회한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter cacheL1MissCounter(MeterRegistry registry) {
+        return Counter.builder("cache_l1_miss_total")
+                .description("로컬 캐시 미스 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 적재 합류 카운터를 생성합니다.
+     * 진행 중인 KT 조회에 합류하여 중복 호출을 피한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter cacheLoadCoalescedCounter(MeterRegistry registry) {
+        return Counter.builder("cache_load_coalesced_total")
+                .description("진행 중인 조회에 합류한 캐시 미스 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 청구 상태 메모 히트 카운터를 생성합니다.
+     * KT 영업시스템의 청구 상태 확인 호출을 생략한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter billingStatusMemoHitCounter(MeterRegistry registry) {
+        return Counter.builder("billing_status_memo_hit_total")
+                .description("청구 상태 메모 히트 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 청구 상태 메모 미스 카운터를 생성합니다.
+     * 메모가 없거나 만료되어 KT 영업시스템에 청구 상태를 확인한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter billingStatusMemoMissCounter(MeterRegistry registry) {
+        return Counter.builder("billing_status_memo_miss_total")
+                .description("청구 상태 메모 미스 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 변경 알림 수신 카운터를 생성합니다.
+     */
+    @Bean
+    public Counter billingSyncReceivedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_sync_received_total")
+                .description("요금 변경 알림 수신 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 변경 알림 병합 카운터를 생성합니다.
+     * 대기 중인 같은 회선/월 이벤트에 병합되어 별도 갱신이 생략된 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter billingSyncMergedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_sync_merged_total")
+                .description("요금 변경 알림 병합 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 변경 알림 거부 카운터를 생성합니다.
+     * 동기화 대기열이 가득 차 거부된 알림 수를 측정합니다.
+     */
+    @Bean
+    public Counter billingSyncRejectedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_sync_rejected_total")
+                .description("요금 변경 알림 거부 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 변경 알림 폐기 카운터를 생성합니다.
+     * 최대 시도 횟수까지 재조회에 실패해 버려진 알림 수를 측정합니다.
+     */
+    @Bean
+    public Counter billingSyncDroppedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_sync_dropped_total")
+                .description("요금 변경 알림 폐기 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 변경 동기화 지연 타이머를 생성합니다.
+     * 알림 최초 수신부터 캐시 반영까지 걸린 시간을 측정합니다.
+     */
+    @Bean
+    public Timer billingSyncLagTimer(MeterRegistry registry) {
+        return Timer.builder("billing_sync_lag")
+                .description("요금 변경 알림 수신부터 캐시 반영까지의 지연 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    /**
+     * 부정 캐시 히트 카운터를 생성합니다.
+     * KOS에 없는 회선/월로 부정 캐시된 항목이 조회된 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter cacheNegativeHitCounter(MeterRegistry registry) {
+        return Counter.builder("cache_negative_hit_total")
+                .description("부정 캐시 히트 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 마지막 정상 요금 정보 제공 카운터를 생성합니다.
+     * KT 영업시스템 장애로 마지막 정상 요금 정보를 대신 제공한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter billingLastKnownGoodServedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_last_known_good_served_total")
+                .description("마지막 정상 요금 정보 제공 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 캐시 사전 적재 카운터를 생성합니다.
+     * 사전 적재 작업으로 캐시에 적재한 요금 정보 수를 측정합니다.
+     */
+    @Bean
+    public Counter billingWarmupLoadedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_warmup_loaded_total")
+                .description("요금 캐시 사전 적재 건수")
+                .register(registry);
+    }
+
+    /**
+     * 요금 캐시 사전 적재 실패 카운터를 생성합니다.
+     * 사전 적재 작업 중 KOS 조회에 실패한 회선 수를 측정합니다.
+     */
+    @Bean
+    public Counter billingWarmupFailedCounter(MeterRegistry registry) {
+        return Counter.builder("billing_warmup_failed_total")
+                .description("요금 캐시 사전 적재 실패 건수")
+                .register(registry);
+    }
+
     /**
      * KT 영업시스템 요청 카운터를 생성합니다.
      * KT 영업시스템으로 직접 요청한 횟수를 측정합니다.
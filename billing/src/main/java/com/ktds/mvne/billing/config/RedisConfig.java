@@ -1,6 +1,14 @@
 package com.ktds.mvne.billing.config;
 
+import com.ktds.mvne.billing.cache.BillingInfoCodec;
+import com.ktds.mvne.billing.cache.BillingInfoRedisSerializer;
+import com.ktds.mvne.billing.cache.BinaryBillingInfoCodec;
+import com.ktds.mvne.billing.cache.JsonBillingInfoCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import com.ktds.mvne.billing.dto.CustomerInfoResponseDTO;
+import com.ktds.mvne.common.cache.CustomerProfileCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,9 +16,12 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 /**
  * Redis 설정 클래스입니다.
  */
@@ -26,6 +37,12 @@ public class RedisConfig {
     @Value("${spring.redis.password:}")
     private String redisPassword;
 
+    @Value("${cache.billing-info.codec:binary}")
+    private String billingInfoCodec;
+
+    @Value("${cache.billing-info.compression-threshold-bytes:1024}")
+    private int compressionThresholdBytes;
+
     /**
      * Redis 연결 팩토리 빈을 생성합니다.
      *
@@ -51,7 +68,72 @@ public class RedisConfig {
         RedisTemplate<String, BillingInfoResponseDTO> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(new BillingInfoRedisSerializer(billingInfoCodec(), compressionThresholdBytes));
         return template;
     }
+
+    /**
+     * 설정에 따라 요금 정보 캐시 값의 저장 코덱을 선택합니다.
+     * 읽기는 헤더의 코덱 식별자로 판단하므로 설정 변경 중에도 기존 값을 읽을 수 있습니다.
+     *
+     * @return 요금 정보 코덱
+     */
+    private BillingInfoCodec billingInfoCodec() {
+        if ("json".equalsIgnoreCase(billingInfoCodec)) {
+            return new JsonBillingInfoCodec();
+        }
+        return new BinaryBillingInfoCodec();
+    }
+
+    /**
+     * 캐시 무효화 메시지 발행용 StringRedisTemplate 빈을 생성합니다.
+     *
+     * @param connectionFactory RedisConnectionFactory 인스턴스
+     * @return StringRedisTemplate 인스턴스
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * 상품변경 서비스와 공유하는 고객 정보 캐시 빈을 생성합니다.
+     * 상태를 알 수 없는 기본 응답은 캐시하지 않습니다.
+     *
+     * @param stringRedisTemplate StringRedisTemplate 인스턴스
+     * @param listenerContainer 무효화 메시지 수신 컨테이너
+     * @param objectMapper ObjectMapper 인스턴스
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 고객 정보 캐시
+     */
+    @Bean
+    public CustomerProfileCache<CustomerInfoResponseDTO> customerProfileCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${cache.customer-profile.local-max-size:10000}") long localMaxSize,
+            @Value("${cache.customer-profile.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${cache.customer-profile.redis-ttl-minutes:30}") long redisTtlMinutes,
+            @Value("${cache.customer-profile.invalidation-channel:customer:profile:invalidate}") String channel,
+            @Value("${cache.customer-profile.eviction-tombstone-seconds:30}") long tombstoneSeconds) {
+        return new CustomerProfileCache<>(stringRedisTemplate, listenerContainer, objectMapper, meterRegistry,
+                CustomerInfoResponseDTO.class,
+                customerInfo -> customerInfo.getStatus() != null && !"UNKNOWN".equals(customerInfo.getStatus()),
+                new CustomerProfileCache.Properties(localMaxSize, Duration.ofSeconds(localTtlSeconds),
+                        Duration.ofMinutes(redisTtlMinutes), channel, Duration.ofSeconds(tombstoneSeconds)));
+    }
+
+    /**
+     * Redis pub/sub 메시지 수신 컨테이너 빈을 생성합니다.
+     *
+     * @param connectionFactory RedisConnectionFactory 인스턴스
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
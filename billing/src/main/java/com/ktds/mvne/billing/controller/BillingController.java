@@ -6,6 +6,7 @@ import com.ktds.mvne.billing.dto.DiscountDTO;
 import com.ktds.mvne.billing.dto.FeeDetailDTO;
 import com.ktds.mvne.billing.service.BillingService;
 import com.ktds.mvne.common.dto.ApiResponse;
+import com.ktds.mvne.common.exception.BizException;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
@@ -110,6 +111,42 @@ public class BillingController {
         }
     }
 
+    /**
+     * 최근 여러 달의 요금 이력을 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param months 조회할 개월 수 (당월 포함, 최대 12)
+     * @return 최근 월부터 정렬된 요금 정보 목록
+     */
+    @GetMapping("/{phoneNumber}/history")
+    @Operation(summary = "요금 이력 조회", description = "당월부터 최근 N개월(최대 12개월)의 요금을 한 번에 조회합니다.")
+    public ResponseEntity<ApiResponse<List<BillingInfoResponseDTO>>> getBillingHistory(
+            @Parameter(description = "회선 번호", example = "01012345678")
+            @PathVariable("phoneNumber") String phoneNumber,
+            @Parameter(description = "조회할 개월 수 (최대 12)", example = "6")
+            @RequestParam(value = "months", defaultValue = "6") int months) {
+        log.debug("getBillingHistory request for phoneNumber: {}, months: {}", phoneNumber, months);
+        billingRequestCounter.increment();
+
+        try {
+            List<BillingInfoResponseDTO> response = billingService.getBillingHistory(phoneNumber, months);
+            billingSuccessCounter.increment();
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (BizException e) {
+            billingErrorCounter.increment();
+            return ResponseEntity.status(e.getErrorCode().getCode()).body(
+                    ApiResponse.of(e.getErrorCode().getCode(), e.getDetail(), null)
+            );
+        } catch (Exception e) {
+            log.error("Error in getBillingHistory for phoneNumber: {}, months: {}: {}",
+                    phoneNumber, months, e.getMessage(), e);
+            billingErrorCounter.increment();
+            return ResponseEntity.status(500).body(
+                    ApiResponse.of(500, "요금 이력 조회 중 오류가 발생했습니다: " + e.getMessage(), null)
+            );
+        }
+    }
+
     // 테스트용 데이터 생성 메서드
     private BillingInfoResponseDTO createTestBillingResponse(String phoneNumber) {
         // 현재 월 형식으로 설정
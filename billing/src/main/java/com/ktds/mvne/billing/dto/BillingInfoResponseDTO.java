@@ -12,7 +12,7 @@ import java.util.List;
  * 요금 정보 응답 DTO입니다.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "요금 정보 응답")
@@ -35,4 +35,7 @@ public class BillingInfoResponseDTO {
     
     @Schema(description = "단말기 할부 정보")
     private DeviceInstallmentDTO deviceInstallment;
+
+    @Schema(description = "KT 영업시스템 장애로 마지막 정상 조회 결과를 제공한 경우 true", example = "false")
+    private boolean stale;
 }
@@ -0,0 +1,28 @@
+package com.ktds.mvne.billing.repository;
+
+import com.ktds.mvne.billing.domain.CustomerInfo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 고객 정보를 조회하는 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface CustomerInfoRepository extends JpaRepository<CustomerInfo, Long> {
+
+    /**
+     * 주어진 회선 번호 이후의 회선 번호를 정렬된 순서로 한 페이지만큼 조회합니다.
+     * 키셋 방식으로 페이지를 넘기므로 전체 가입자를 순회해도 OFFSET 비용이 누적되지 않습니다.
+     *
+     * @param afterLineNumber 직전 페이지의 마지막 회선 번호 (처음 조회 시 빈 문자열)
+     * @param pageable 페이지 크기
+     * @return 회선 번호 목록
+     */
+    @Query("SELECT DISTINCT c.lineNumber FROM CustomerInfo c WHERE c.lineNumber > :afterLineNumber ORDER BY c.lineNumber")
+    List<String> findLineNumbersAfter(@Param("afterLineNumber") String afterLineNumber, Pageable pageable);
+}
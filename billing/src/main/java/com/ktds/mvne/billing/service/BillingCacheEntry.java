@@ -0,0 +1,23 @@
+package com.ktds.mvne.billing.service;
+
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+
+/**
+ * 캐시된 요금 정보와 갱신 필요 여부를 함께 담는 레코드입니다.
+ *
+ * @param value 캐시된 요금 정보 (부정 캐시인 경우 상세 내역이 없는 응답)
+ * @param stale soft TTL이 지나 백그라운드 갱신이 필요한 경우 true
+ * @param negative KOS에 요금 정보가 없다고 확인되어 짧게 캐시된 항목인 경우 true
+ */
+public record BillingCacheEntry(BillingInfoResponseDTO value, boolean stale, boolean negative) {
+
+    /**
+     * 일반 캐시 항목을 생성합니다.
+     *
+     * @param value 캐시된 요금 정보
+     * @param stale soft TTL이 지나 백그라운드 갱신이 필요한 경우 true
+     */
+    public BillingCacheEntry(BillingInfoResponseDTO value, boolean stale) {
+        this(value, stale, false);
+    }
+}
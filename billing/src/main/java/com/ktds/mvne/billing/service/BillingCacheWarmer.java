@@ -0,0 +1,480 @@
+package com.ktds.mvne.billing.service;
+
+import com.ktds.mvne.billing.adapter.KTAdapter;
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import com.ktds.mvne.billing.dto.BillingStatusResponse;
+import com.ktds.mvne.billing.repository.CustomerInfoRepository;
+import com.ktds.mvne.common.exception.BizException;
+import com.ktds.mvne.common.exception.ErrorCode;
+import com.ktds.mvne.common.util.ValidationUtil;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 청구 마감 직후 신규 청구월의 요금 정보를 미리 캐시에 적재하는 서비스입니다.
+ *
+ * <p>청구 데이터가 생성되면 모든 가입자의 현재 요금 조회가 한꺼번에 캐시 미스가 되므로,
+ * 가입자 회선을 페이지 단위로 순회하며 아직 캐시에 없는 회선만 KOS에서 조회해 적재합니다.
+ * KOS 요청은 초당 요청 수와 동시 요청 수 한도 안에서만 수행하며,
+ * 여러 인스턴스가 동시에 같은 월을 적재하지 않도록 Redis 잠금을 사용하며, 잠금은 페이지마다 갱신합니다.
+ * 적재를 마친 월은 Redis 완료 표시를 남겨 다른 인스턴스나 재시작 후에도 다시 순회하지 않습니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BillingCacheWarmer {
+
+    private static final String LOCK_KEY_PREFIX = "billing:warmup:lock:";
+    private static final String DONE_KEY_PREFIX = "billing:warmup:done:";
+
+    private static final DefaultRedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final CustomerInfoRepository customerInfoRepository;
+    private final KTAdapter ktAdapter;
+    private final CacheService cacheService;
+    private final BillingStatusMemo billingStatusMemo;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ExecutorService billingLookupExecutor;
+    private final Counter ktSystemRequestCounter;
+    private final Counter billingWarmupLoadedCounter;
+    private final Counter billingWarmupFailedCounter;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean stopRequested = new AtomicBoolean();
+    private final AtomicLong nextPermitAt = new AtomicLong();
+    private volatile Progress progress = Progress.idle();
+    private volatile String lastCompletedMonth;
+
+    @Value("${billing.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${billing.warmup.page-size:500}")
+    private int pageSize;
+
+    @Value("${billing.warmup.max-requests-per-second:50}")
+    private int maxRequestsPerSecond;
+
+    @Value("${billing.warmup.max-parallelism:8}")
+    private int maxParallelism;
+
+    @Value("${billing.warmup.lock-ttl-minutes:60}")
+    private long lockTtlMinutes;
+
+    @Value("${billing.warmup.done-ttl-days:40}")
+    private long doneTtlDays;
+
+    /**
+     * 주기적으로 당월 청구 데이터 생성 여부를 확인하고, 생성되었으면 당월 캐시 적재를 시작합니다.
+     * 청구 상태는 {@link BillingStatusMemo}를 거쳐 확인하므로 미생성 기간 동안의 KOS 요청은 메모 TTL 단위로 제한됩니다.
+     */
+    @Scheduled(cron = "${billing.warmup.cron:0 */10 * * * *}")
+    public void warmUpGeneratedMonth() {
+        if (!enabled || running.get()) {
+            return;
+        }
+
+        String billingMonth = YearMonth.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+        if (billingMonth.equals(lastCompletedMonth)) {
+            return;
+        }
+        if (isDone(billingMonth)) {
+            lastCompletedMonth = billingMonth;
+            return;
+        }
+
+        List<String> firstPage = customerInfoRepository.findLineNumbersAfter("", PageRequest.of(0, 1));
+        if (firstPage.isEmpty() || !isBillingGenerated(firstPage.get(0), billingMonth)) {
+            log.debug("Billing data for {} is not generated yet, skipping warm-up", billingMonth);
+            return;
+        }
+
+        start(billingMonth, false);
+    }
+
+    /**
+     * 지정한 청구월의 캐시 적재를 비동기로 시작합니다.
+     * 이미 완료 표시가 있는 월도 다시 적재하며, 캐시 적재가 비활성화되어 있으면 시작하지 않습니다.
+     *
+     * @param billingMonth 청구 년월 (YYYYMM 형식, 당월 이전)
+     * @return 시작했으면 true, 비활성화되어 있거나 이미 진행 중이거나 다른 인스턴스가 진행 중이면 false
+     * @throws BizException 청구 년월 형식이 잘못되었거나 미래 월인 경우
+     */
+    public boolean start(String billingMonth) {
+        if (!ValidationUtil.validateBillingMonth(billingMonth)
+                || YearMonth.parse(billingMonth, DateTimeFormatter.ofPattern("yyyyMM")).isAfter(YearMonth.now())) {
+            throw new BizException(ErrorCode.BAD_REQUEST, "Invalid billing month: " + billingMonth);
+        }
+        if (!enabled) {
+            log.info("Billing cache warm-up is disabled, ignoring start request for {}", billingMonth);
+            return false;
+        }
+        return start(billingMonth, true);
+    }
+
+    /**
+     * 지정한 청구월의 캐시 적재를 비동기로 시작합니다.
+     *
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param force 완료 표시가 있어도 다시 적재할지 여부
+     * @return 시작했으면 true, 이미 진행 중이거나 다른 인스턴스가 진행 중이거나 이미 완료된 경우 false
+     */
+    private boolean start(String billingMonth, boolean force) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        // 작업을 제출하기 전에 Redis 오류 등으로 빠져나가면 실행 상태와 잠금을 되돌림
+        String lockKey = LOCK_KEY_PREFIX + billingMonth;
+        boolean locked = false;
+        boolean submitted = false;
+        try {
+            locked = Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, instanceId, Duration.ofMinutes(lockTtlMinutes)));
+            if (!locked) {
+                log.info("Billing cache warm-up for {} is already running on another instance", billingMonth);
+                return false;
+            }
+
+            // 잠금을 얻기 직전에 다른 인스턴스가 적재를 마쳤을 수 있으므로 다시 확인
+            if (!force && isDone(billingMonth)) {
+                lastCompletedMonth = billingMonth;
+                return false;
+            }
+
+            stopRequested.set(false);
+            progress = Progress.started(billingMonth);
+            billingLookupExecutor.execute(() -> {
+                try {
+                    run(billingMonth);
+                } catch (Exception e) {
+                    log.error("Billing cache warm-up for {} failed: {}", billingMonth, e.getMessage(), e);
+                    progress = progress.finish("FAILED");
+                } finally {
+                    releaseLock(lockKey);
+                    running.set(false);
+                }
+            });
+            submitted = true;
+            return true;
+        } finally {
+            if (!submitted) {
+                if (locked) {
+                    releaseLock(lockKey);
+                }
+                running.set(false);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 캐시 적재를 현재 페이지까지만 처리하고 중단하도록 요청합니다.
+     *
+     * @return 진행 중인 작업이 있었으면 true
+     */
+    public boolean stop() {
+        if (!running.get()) {
+            return false;
+        }
+        stopRequested.set(true);
+        return true;
+    }
+
+    /**
+     * 현재 또는 마지막 캐시 적재 작업의 진행 상황을 반환합니다.
+     *
+     * @return 진행 상황
+     */
+    public Progress getProgress() {
+        return progress;
+    }
+
+    /**
+     * 가입자 회선을 페이지 단위로 순회하며 캐시에 없는 회선의 요금 정보를 적재합니다.
+     *
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    private void run(String billingMonth) {
+        log.info("Starting billing cache warm-up for {} (page size {}, {} req/s, parallelism {})",
+                billingMonth, pageSize, maxRequestsPerSecond, maxParallelism);
+
+        String lockKey = LOCK_KEY_PREFIX + billingMonth;
+        Semaphore permits = new Semaphore(maxParallelism);
+        String lastLineNumber = "";
+        boolean lockLost = false;
+        while (!stopRequested.get()) {
+            if (!renewLock(lockKey)) {
+                log.error("Lost billing cache warm-up lock for {}, aborting", billingMonth);
+                lockLost = true;
+                break;
+            }
+
+            List<String> page = customerInfoRepository.findLineNumbersAfter(lastLineNumber, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            lastLineNumber = page.get(page.size() - 1);
+
+            List<String> uncached = cacheService.findUncachedPhoneNumbers(page, billingMonth);
+            progress = progress.addScanned(page.size(), page.size() - uncached.size());
+
+            List<CompletableFuture<BillingInfoResponseDTO>> futures = new ArrayList<>(uncached.size());
+            for (String phoneNumber : uncached) {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> fetch(phoneNumber, billingMonth, permits), billingLookupExecutor));
+            }
+
+            List<BillingInfoResponseDTO> loaded = new ArrayList<>(futures.size());
+            int notGenerated = 0;
+            int failed = 0;
+            for (CompletableFuture<BillingInfoResponseDTO> future : futures) {
+                BillingInfoResponseDTO billingInfo = future.join();
+                if (billingInfo == null) {
+                    failed++;
+                } else if (billingInfo.getDetails() == null) {
+                    notGenerated++;
+                } else {
+                    loaded.add(billingInfo);
+                }
+            }
+
+            if (!loaded.isEmpty()) {
+                cacheService.cacheBillingInfoBatch(loaded);
+            }
+            billingWarmupLoadedCounter.increment(loaded.size());
+            billingWarmupFailedCounter.increment(failed);
+            progress = progress.addFetched(loaded.size(), notGenerated, failed);
+        }
+
+        if (lockLost) {
+            progress = progress.finish("FAILED");
+        } else if (stopRequested.get()) {
+            progress = progress.finish("STOPPED");
+        } else if (progress.failed() > 0) {
+            // 조회에 실패한 회선이 있으면 완료 표시를 남기지 않아 다음 주기에 다시 순회 (적재된 회선은 건너뜀)
+            progress = progress.finish("PARTIAL");
+        } else {
+            progress = progress.finish("COMPLETED");
+            markDone(billingMonth);
+            lastCompletedMonth = billingMonth;
+        }
+        Progress result = progress;
+        log.info("Billing cache warm-up for {} {}: scanned={}, alreadyCached={}, warmed={}, notGenerated={}, failed={}",
+                billingMonth, result.state(), result.scanned(), result.alreadyCached(),
+                result.warmed(), result.notGenerated(), result.failed());
+    }
+
+    /**
+     * 이 인스턴스가 잠금을 가지고 있으면 만료 시간을 연장합니다.
+     *
+     * @param lockKey 잠금 키
+     * @return 잠금을 가지고 있어 연장했으면 true
+     */
+    private boolean renewLock(String lockKey) {
+        Long renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, Collections.singletonList(lockKey),
+                instanceId, String.valueOf(TimeUnit.MINUTES.toMillis(lockTtlMinutes)));
+        return renewed != null && renewed > 0;
+    }
+
+    /**
+     * 이 인스턴스가 가지고 있는 잠금만 해제합니다.
+     *
+     * @param lockKey 잠금 키
+     */
+    private void releaseLock(String lockKey) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(lockKey), instanceId);
+        } catch (Exception e) {
+            // 해제 실패 시 잠금 TTL 만료로 정리됨
+            log.warn("Failed to release billing cache warm-up lock {}: {}", lockKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 청구월의 적재 완료 표시가 있는지 확인합니다.
+     *
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 완료 표시가 있으면 true
+     */
+    private boolean isDone(String billingMonth) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY_PREFIX + billingMonth));
+    }
+
+    /**
+     * 지정한 청구월의 적재 완료 표시를 남깁니다.
+     *
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    private void markDone(String billingMonth) {
+        try {
+            stringRedisTemplate.opsForValue().set(DONE_KEY_PREFIX + billingMonth, instanceId, Duration.ofDays(doneTtlDays));
+        } catch (Exception e) {
+            // 표시를 남기지 못하면 다음 주기에 이미 적재된 회선을 건너뛰며 다시 순회함
+            log.warn("Failed to mark billing cache warm-up for {} as done: {}", billingMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * KOS 요청 한도 안에서 한 회선의 요금 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param permits 동시 요청 수 제한
+     * @return 요금 정보, 조회에 실패하면 null
+     */
+    private BillingInfoResponseDTO fetch(String phoneNumber, String billingMonth, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        try {
+            acquireRequestSlot();
+            ktSystemRequestCounter.increment();
+            BillingInfoResponseDTO billingInfo = ktAdapter.getBillingInfo(phoneNumber, billingMonth);
+            if (billingInfo != null) {
+                billingInfo.setPhoneNumber(phoneNumber);
+                billingInfo.setBillingMonth(billingMonth);
+            }
+            return billingInfo;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (BizException e) {
+            // 요금 정보가 없다는 확정 응답은 실패가 아니라 청구 데이터가 없는 회선으로 집계
+            if (e.getErrorCode() == ErrorCode.NOT_FOUND) {
+                cacheService.cacheNegativeBillingInfo(phoneNumber, billingMonth);
+                return RedisCacheServiceImpl.createNegativePlaceholder(phoneNumber, billingMonth);
+            }
+            log.warn("Failed to warm billing cache for {} - {}: {}", phoneNumber, billingMonth, e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to warm billing cache for {} - {}: {}", phoneNumber, billingMonth, e.getMessage());
+            return null;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 초당 요청 수 한도에 맞춰 다음 KOS 요청 시점까지 대기합니다.
+     * 요청마다 고정 간격의 시점을 예약하므로 순간적인 몰림 없이 일정한 속도로 요청합니다.
+     *
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    private void acquireRequestSlot() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxRequestsPerSecond);
+        long now = System.nanoTime();
+        long reserved = nextPermitAt.getAndUpdate(previous -> Math.max(previous, now) + intervalNanos);
+        long waitNanos = Math.max(reserved, now) - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 청구 상태를 확인해 지정한 청구월의 청구 데이터가 생성되었는지 판단합니다.
+     *
+     * @param phoneNumber 상태 확인에 사용할 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 생성되었으면 true
+     */
+    private boolean isBillingGenerated(String phoneNumber, String billingMonth) {
+        BillingStatusResponse statusResponse = billingStatusMemo.get(phoneNumber);
+        if (statusResponse == null) {
+            try {
+                ktSystemRequestCounter.increment();
+                statusResponse = ktAdapter.checkBillingStatus(phoneNumber);
+                billingStatusMemo.put(statusResponse);
+            } catch (Exception e) {
+                log.warn("Failed to check billing status before warm-up: {}", e.getMessage());
+                return false;
+            }
+        }
+        return statusResponse != null && statusResponse.isBillingGenerated()
+                && billingMonth.equals(statusResponse.getCurrentBillingMonth());
+    }
+
+    /**
+     * 캐시 적재 작업의 진행 상황입니다.
+     *
+     * @param state 상태 (IDLE, RUNNING, COMPLETED, PARTIAL, STOPPED, FAILED)
+     * @param billingMonth 청구 년월
+     * @param startedAt 시작 시각
+     * @param finishedAt 종료 시각
+     * @param scanned 확인한 회선 수
+     * @param alreadyCached 이미 캐시에 있던 회선 수
+     * @param warmed 새로 적재한 회선 수
+     * @param notGenerated 청구 데이터가 없어 적재하지 않은 회선 수
+     * @param failed 조회에 실패한 회선 수
+     */
+    public record Progress(String state, String billingMonth, Instant startedAt, Instant finishedAt,
+                           long scanned, long alreadyCached, long warmed, long notGenerated, long failed) {
+
+        static Progress idle() {
+            return new Progress("IDLE", null, null, null, 0, 0, 0, 0, 0);
+        }
+
+        static Progress started(String billingMonth) {
+            return new Progress("RUNNING", billingMonth, Instant.now(), null, 0, 0, 0, 0, 0);
+        }
+
+        Progress addScanned(int scannedCount, int alreadyCachedCount) {
+            return new Progress(state, billingMonth, startedAt, finishedAt, scanned + scannedCount,
+                    alreadyCached + alreadyCachedCount, warmed, notGenerated, failed);
+        }
+
+        Progress addFetched(int warmedCount, int notGeneratedCount, int failedCount) {
+            return new Progress(state, billingMonth, startedAt, finishedAt, scanned, alreadyCached,
+                    warmed + warmedCount, notGenerated + notGeneratedCount, failed + failedCount);
+        }
+
+        Progress finish(String finalState) {
+            return new Progress(finalState, billingMonth, startedAt, Instant.now(),
+                    scanned, alreadyCached, warmed, notGenerated, failed);
+        }
+
+        /**
+         * 시작 이후 초당 적재한 회선 수를 반환합니다.
+         *
+         * @return 초당 적재 건수
+         */
+        public double warmedPerSecond() {
+            if (startedAt == null) {
+                return 0;
+            }
+            long elapsedMillis = Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis();
+            return elapsedMillis > 0 ? warmed * 1000.0 / elapsedMillis : 0;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktds.mvne.billing.service;
+
+/**
+ * 캐시된 요금 정보에 변경 내역을 반영한 결과입니다.
+ */
+public enum BillingChangeResult {
+
+    /**
+     * 캐시 항목에 변경 내역을 반영했습니다.
+     */
+    APPLIED,
+
+    /**
+     * 캐시 항목이 없어 반영할 대상이 없습니다. 다음 조회 시 최신 정보를 적재합니다.
+     */
+    NOT_CACHED,
+
+    /**
+     * 변경 내역만으로는 반영할 수 없어 KT 어댑터에서 다시 조회해야 합니다.
+     */
+    REFETCH_REQUIRED
+}
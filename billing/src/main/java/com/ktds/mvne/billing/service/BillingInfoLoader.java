@@ -0,0 +1,295 @@
+package com.ktds.mvne.billing.service;
+
+import com.ktds.mvne.billing.adapter.KTAdapter;
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import com.ktds.mvne.common.exception.BizException;
+import com.ktds.mvne.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * KT 어댑터에서 요금 정보를 조회하여 캐시에 적재하는 컴포넌트입니다.
+ * 사용자 요청 경로의 동기 조회와 stale 항목의 백그라운드 갱신에 함께 사용됩니다.
+ *
+ * <p>같은 회선/월에 대한 동시 조회는 하나의 KT 어댑터 호출을 공유합니다(single-flight).
+ * 리스가 활성화되면 Redis의 SET NX 키로 여러 인스턴스 중 한 곳만 KT 어댑터를 호출합니다.</p>
+ */
+@Component
+@Slf4j
+public class BillingInfoLoader {
+
+    private static final DefaultRedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final KTAdapter ktAdapter;
+    private final CacheService cacheService;
+    private final Executor cacheRefreshExecutor;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Counter cacheLoadCoalescedCounter;
+    private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, CompletableFuture<BillingInfoResponseDTO>> loadsInFlight =
+            new ConcurrentHashMap<>();
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    @Value("${cache.billing-info.single-flight.lease.enabled:false}")
+    private boolean leaseEnabled;
+
+    @Value("${cache.billing-info.single-flight.lease.ttl-ms:5000}")
+    private long leaseTtlMs;
+
+    @Value("${cache.billing-info.single-flight.lease.wait-ms:3000}")
+    private long leaseWaitMs;
+
+    @Value("${cache.billing-info.single-flight.lease.poll-interval-ms:50}")
+    private long leasePollIntervalMs;
+
+    /**
+     * BillingInfoLoader 생성자입니다.
+     *
+     * @param ktAdapter KT 어댑터
+     * @param cacheService 캐시 서비스
+     * @param cacheRefreshExecutor 백그라운드 갱신 실행기
+     * @param stringRedisTemplate 리스 키 관리용 RedisTemplate
+     * @param cacheLoadCoalescedCounter 합류된 조회 카운터
+     */
+    public BillingInfoLoader(KTAdapter ktAdapter,
+                             CacheService cacheService,
+                             @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                             StringRedisTemplate stringRedisTemplate,
+                             Counter cacheLoadCoalescedCounter) {
+        this.ktAdapter = ktAdapter;
+        this.cacheService = cacheService;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheLoadCoalescedCounter = cacheLoadCoalescedCounter;
+    }
+
+    /**
+     * KT 어댑터를 통해 요금 정보를 조회하고 유효한 응답이면 캐시에 저장합니다.
+     * 같은 키에 대한 조회가 진행 중이면 새로 호출하지 않고 그 결과를 기다립니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 요금 정보
+     */
+    public BillingInfoResponseDTO load(String phoneNumber, String billingMonth) {
+        String cacheKey = RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth);
+        CompletableFuture<BillingInfoResponseDTO> flight = new CompletableFuture<>();
+        CompletableFuture<BillingInfoResponseDTO> existing = loadsInFlight.putIfAbsent(cacheKey, flight);
+
+        if (existing != null) {
+            log.debug("Joining in-flight load for key: {}", cacheKey);
+            cacheLoadCoalescedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            BillingInfoResponseDTO billingInfo = leaseEnabled
+                    ? loadWithLease(cacheKey, phoneNumber, billingMonth)
+                    : fetchAndCache(phoneNumber, billingMonth);
+            flight.complete(billingInfo);
+            return billingInfo;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(cacheKey, flight);
+        }
+    }
+
+    /**
+     * Redis 리스를 획득한 인스턴스만 KT 어댑터를 호출합니다.
+     * 리스를 얻지 못하면 다른 인스턴스가 캐시를 채울 때까지 잠시 기다린 뒤,
+     * 대기 시간이 지나면 직접 조회합니다.
+     *
+     * @param cacheKey 캐시 키
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO loadWithLease(String cacheKey, String phoneNumber, String billingMonth) {
+        String leaseKey = cacheKey + ":lease";
+        Boolean acquired = null;
+        try {
+            acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, leaseOwner, Duration.ofMillis(leaseTtlMs));
+        } catch (Exception e) {
+            log.warn("Failed to acquire refresh lease for {}: {}", cacheKey, e.getMessage());
+        }
+
+        if (acquired == null) {
+            // Redis 오류 시 리스 없이 진행
+            return fetchAndCache(phoneNumber, billingMonth);
+        }
+
+        if (acquired) {
+            try {
+                return fetchAndCache(phoneNumber, billingMonth);
+            } finally {
+                releaseLease(leaseKey);
+            }
+        }
+
+        log.debug("Refresh lease for {} held by another instance, waiting for cache fill", cacheKey);
+        long deadline = System.currentTimeMillis() + leaseWaitMs;
+        while (System.currentTimeMillis() < deadline) {
+            BillingInfoResponseDTO cachedInfo = cacheService.getCachedBillingInfo(phoneNumber, billingMonth);
+            if (cachedInfo != null) {
+                return cachedInfo;
+            }
+            try {
+                Thread.sleep(leasePollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.debug("Cache not filled within lease wait for {}, fetching directly", cacheKey);
+        return fetchAndCache(phoneNumber, billingMonth);
+    }
+
+    /**
+     * 자신이 보유한 리스만 해제합니다.
+     *
+     * @param leaseKey 리스 키
+     */
+    private void releaseLease(String leaseKey) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, Collections.singletonList(leaseKey), leaseOwner);
+        } catch (Exception e) {
+            // 해제 실패 시 리스 TTL 만료로 정리됨
+            log.warn("Failed to release refresh lease {}: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 조회의 결과를 기다립니다.
+     *
+     * @param flight 진행 중인 조회
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO await(CompletableFuture<BillingInfoResponseDTO> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * KT 어댑터를 호출하여 요금 정보를 조회하고 캐시에 저장합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO fetchAndCache(String phoneNumber, String billingMonth) {
+        log.debug("Fetching billing info from KT adapter for {}, {}", phoneNumber, billingMonth);
+        BillingInfoResponseDTO billingInfo;
+        try {
+            billingInfo = ktAdapter.getBillingInfo(phoneNumber, billingMonth);
+        } catch (BizException e) {
+            // KOS가 요금 정보가 없다고 확정 응답한 회선/월만 짧게 부정 캐시하고, 부정 캐시 적중 시와 같은 응답을 반환
+            if (e.getErrorCode() != ErrorCode.NOT_FOUND) {
+                throw e;
+            }
+            cacheService.cacheNegativeBillingInfo(phoneNumber, billingMonth);
+            return RedisCacheServiceImpl.createNegativePlaceholder(phoneNumber, billingMonth);
+        }
+
+        // 응답이 null인 경우 기본 응답 생성
+        if (billingInfo == null) {
+            log.warn("BillingInfoResponseDTO is null for phoneNumber: {}, billingMonth: {}", phoneNumber, billingMonth);
+            billingInfo = createDefaultBillingInfo(phoneNumber, billingMonth);
+        }
+
+        // phoneNumber가 null인 경우 처리
+        if (billingInfo.getPhoneNumber() == null || billingInfo.getPhoneNumber().isEmpty()) {
+            billingInfo.setPhoneNumber(phoneNumber);
+        }
+
+        // billingMonth가 null인 경우 처리
+        if (billingInfo.getBillingMonth() == null || billingInfo.getBillingMonth().isEmpty()) {
+            billingInfo.setBillingMonth(billingMonth);
+        }
+
+        // 응답이 유효한 경우에만 캐시에 저장하고, 청구 내역이 없는 경우 부정 캐시에 저장
+        if (billingInfo.getDetails() != null) {
+            cacheService.cacheBillingInfo(phoneNumber, billingMonth, billingInfo);
+        } else {
+            cacheService.cacheNegativeBillingInfo(phoneNumber, billingMonth);
+        }
+
+        return billingInfo;
+    }
+
+    /**
+     * 요금 정보를 백그라운드에서 갱신합니다.
+     * 같은 회선/월에 대한 갱신이 이미 진행 중이면 새로 예약하지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    public void refreshAsync(String phoneNumber, String billingMonth) {
+        String refreshKey = phoneNumber + ":" + billingMonth;
+        if (!refreshesInFlight.add(refreshKey)) {
+            log.debug("Background refresh already in flight for {}", refreshKey);
+            return;
+        }
+
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    load(phoneNumber, billingMonth);
+                    log.debug("Background refresh completed for {}", refreshKey);
+                } catch (Exception e) {
+                    log.warn("Background refresh failed for {}: {}", refreshKey, e.getMessage());
+                } finally {
+                    refreshesInFlight.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 찬 경우 stale 값을 계속 제공하고 다음 요청에서 다시 시도
+            refreshesInFlight.remove(refreshKey);
+            log.warn("Background refresh rejected for {}: {}", refreshKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 기본 요금 정보 응답을 생성합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 기본 요금 정보 응답
+     */
+    static BillingInfoResponseDTO createDefaultBillingInfo(String phoneNumber, String billingMonth) {
+        return BillingInfoResponseDTO.builder()
+                .phoneNumber(phoneNumber)
+                .billingMonth(billingMonth)
+                .totalFee(0)
+                .details(Collections.emptyList())
+                .discounts(Collections.emptyList())
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package com.ktds.mvne.billing.service;
 
 import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
 
+import java.util.List;
+
 /**
  * 요금 조회 관련 서비스 인터페이스입니다.
  */
@@ -23,4 +25,13 @@ public interface BillingService {
      * @return 요금 정보
      */
     BillingInfoResponseDTO getSpecificBilling(String phoneNumber, String billingMonth);
+
+    /**
+     * 최근 여러 달의 요금 이력을 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param months 조회할 개월 수 (당월 포함)
+     * @return 최근 월부터 정렬된 요금 정보 목록
+     */
+    List<BillingInfoResponseDTO> getBillingHistory(String phoneNumber, int months);
 }
@@ -10,10 +10,20 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 /**
  * 요금 조회 관련 서비스 구현체입니다.
@@ -23,13 +33,29 @@ import java.time.format.DateTimeFormatter;
 @Slf4j
 public class BillingServiceImpl implements BillingService {
 
+    private static final int MAX_HISTORY_MONTHS = 12;
+
     private final KTAdapter ktAdapter;
     private final CacheService cacheService;
     private final Counter billingRequestCounter;
     private final Counter billingSuccessCounter;
     private final Counter billingErrorCounter;
     private final Counter ktSystemRequestCounter;
+    private final Counter billingLastKnownGoodServedCounter;
     private final Timer ktAdapterOperationTimer;
+    private final BillingInfoLoader billingInfoLoader;
+
+    private final ExecutorService billingLookupExecutor;
+    private final BillingStatusMemo billingStatusMemo;
+
+    @Value("${cache.billing-info.stale-while-revalidate.enabled:true}")
+    private boolean staleWhileRevalidate;
+
+    @Value("${billing.current.speculative-fetch.enabled:false}")
+    private boolean speculativeFetch;
+
+    @Value("${billing.history.max-parallelism:4}")
+    private int historyMaxParallelism;
 
     /**
      * 현재 또는 전월 요금을 조회합니다.
@@ -43,11 +69,12 @@ public class BillingServiceImpl implements BillingService {
         billingRequestCounter.increment();
 
         try {
+            if (speculativeFetch) {
+                return getCurrentBillingSpeculatively(phoneNumber);
+            }
+
             // 당월 청구 데이터 존재 여부 확인
-            ktSystemRequestCounter.increment();
-            Timer.Sample ktSample = Timer.start();
-            BillingStatusResponse statusResponse = ktAdapter.checkBillingStatus(phoneNumber);
-            ktSample.stop(ktAdapterOperationTimer);
+            BillingStatusResponse statusResponse = checkBillingStatus(phoneNumber);
 
             log.debug("BillingStatus for {}: {}", phoneNumber, statusResponse);
 
@@ -73,9 +100,80 @@ public class BillingServiceImpl implements BillingService {
         } catch (Exception e) {
             log.error("Error retrieving current billing for {}: {}", phoneNumber, e.getMessage(), e);
             billingErrorCounter.increment();
-            // 예외가 발생하더라도 기본 응답 제공
-            return createDefaultBillingInfo(phoneNumber, getCurrentMonth());
+            // 예외가 발생하면 마지막 정상 요금 정보를, 없으면 기본 응답 제공
+            String currentMonth = getCurrentMonth();
+            return fallbackBillingInfo(phoneNumber, currentMonth, calculatePreviousMonth(currentMonth));
+        }
+    }
+
+    /**
+     * 청구 상태 확인과 당월/전월 캐시 조회를 동시에 수행하여 현재 요금을 조회합니다.
+     * 상태 응답으로 선택된 월이 캐시에 없을 때만 KT 어댑터에서 요금 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO getCurrentBillingSpeculatively(String phoneNumber) {
+        String currentMonth = getCurrentMonth();
+        String previousMonth = calculatePreviousMonth(currentMonth);
+
+        CompletableFuture<BillingStatusResponse> statusFuture = CompletableFuture.supplyAsync(
+                () -> checkBillingStatus(phoneNumber), billingLookupExecutor);
+        CompletableFuture<BillingCacheEntry> currentEntryFuture = CompletableFuture.supplyAsync(
+                () -> cacheService.getCachedBillingEntry(phoneNumber, currentMonth), billingLookupExecutor);
+        CompletableFuture<BillingCacheEntry> previousEntryFuture = CompletableFuture.supplyAsync(
+                () -> cacheService.getCachedBillingEntry(phoneNumber, previousMonth), billingLookupExecutor);
+
+        BillingStatusResponse statusResponse = statusFuture.join();
+        log.debug("BillingStatus for {}: {}", phoneNumber, statusResponse);
+
+        // statusResponse가 null이면 기본 응답 생성
+        if (statusResponse == null) {
+            log.warn("BillingStatusResponse is null for phoneNumber: {}", phoneNumber);
+            billingErrorCounter.increment();
+            return createDefaultBillingInfo(phoneNumber, currentMonth);
+        }
+
+        String selectedMonth = statusResponse.isBillingGenerated()
+                ? statusResponse.getCurrentBillingMonth()
+                : calculatePreviousMonth(statusResponse.getCurrentBillingMonth());
+
+        BillingInfoResponseDTO response;
+        if (currentMonth.equals(selectedMonth)) {
+            response = resolveBillingInfo(phoneNumber, selectedMonth, currentEntryFuture.join());
+        } else if (previousMonth.equals(selectedMonth)) {
+            response = resolveBillingInfo(phoneNumber, selectedMonth, previousEntryFuture.join());
+        } else {
+            // KOS 기준 청구월이 서버 기준 월과 다른 경우 (월 경계 등) 순차 조회
+            log.debug("Selected month {} differs from speculated months, falling back to sequential lookup",
+                    selectedMonth);
+            response = getBillingInfo(phoneNumber, selectedMonth);
+        }
+
+        billingSuccessCounter.increment();
+        return response;
+    }
+
+    /**
+     * 당월 청구 데이터 존재 여부를 확인합니다.
+     * 청구월 단위 메모가 유효하면 KT 어댑터를 호출하지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 청구 상태 정보
+     */
+    private BillingStatusResponse checkBillingStatus(String phoneNumber) {
+        BillingStatusResponse memoized = billingStatusMemo.get(phoneNumber);
+        if (memoized != null) {
+            return memoized;
         }
+
+        ktSystemRequestCounter.increment();
+        Timer.Sample ktSample = Timer.start();
+        BillingStatusResponse statusResponse = ktAdapter.checkBillingStatus(phoneNumber);
+        ktSample.stop(ktAdapterOperationTimer);
+
+        billingStatusMemo.put(statusResponse);
+        return statusResponse;
     }
 
     /**
@@ -98,66 +196,218 @@ public class BillingServiceImpl implements BillingService {
         } catch (Exception e) {
             log.error("Error retrieving specific billing for {}, {}: {}", phoneNumber, billingMonth, e.getMessage(), e);
             billingErrorCounter.increment();
-            // 예외가 발생하더라도 기본 응답 제공
-            return createDefaultBillingInfo(phoneNumber, billingMonth);
+            // 예외가 발생하면 마지막 정상 요금 정보를, 없으면 기본 응답 제공
+            return fallbackBillingInfo(phoneNumber, billingMonth);
         }
     }
 
     /**
-     * 요금 정보를 조회합니다.
-     * 캐시에서 먼저 조회하고, 캐시에 없는 경우 KT 어댑터를 통해 조회합니다.
+     * 최근 여러 달의 요금 이력을 조회합니다.
+     * 캐시는 한 번의 MGET으로 조회하고, 없는 월만 제한된 병렬도로 KT 어댑터에서 조회한 뒤
+     * 하나의 파이프라인으로 캐시에 기록합니다.
      *
      * @param phoneNumber 회선 번호
-     * @param billingMonth 청구 년월 (YYYYMM 형식)
-     * @return 요금 정보
+     * @param months 조회할 개월 수 (당월 포함)
+     * @return 최근 월부터 정렬된 요금 정보 목록
      */
-    private BillingInfoResponseDTO getBillingInfo(String phoneNumber, String billingMonth) {
-        // 캐시에서 먼저 조회
-        BillingInfoResponseDTO cachedInfo = cacheService.getCachedBillingInfo(phoneNumber, billingMonth);
+    @Override
+    public List<BillingInfoResponseDTO> getBillingHistory(String phoneNumber, int months) {
+        validatePhoneNumber(phoneNumber);
+        if (months < 1 || months > MAX_HISTORY_MONTHS) {
+            throw new BizException(ErrorCode.BAD_REQUEST, "months must be between 1 and " + MAX_HISTORY_MONTHS);
+        }
+        billingRequestCounter.increment();
+
+        YearMonth current = YearMonth.now();
+        List<String> billingMonths = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            billingMonths.add(current.minusMonths(i).format(DateTimeFormatter.ofPattern("yyyyMM")));
+        }
 
-        if (cachedInfo != null) {
-            log.debug("Cache hit for {}, {}", phoneNumber, billingMonth);
+        try {
+            Map<String, BillingInfoResponseDTO> cached = cacheService.getCachedBillingInfos(phoneNumber, billingMonths);
+            List<String> missingMonths = billingMonths.stream()
+                    .filter(billingMonth -> !cached.containsKey(billingMonth))
+                    .toList();
 
-            // phoneNumber가 null인 경우 처리
-            if (cachedInfo.getPhoneNumber() == null || cachedInfo.getPhoneNumber().isEmpty()) {
-                cachedInfo.setPhoneNumber(phoneNumber);
+            Map<String, BillingInfoResponseDTO> fetched = fetchBillingInfos(phoneNumber, missingMonths);
+            cacheFetchedBillingInfos(phoneNumber, fetched);
+
+            List<BillingInfoResponseDTO> history = new ArrayList<>(months);
+            for (String billingMonth : billingMonths) {
+                BillingInfoResponseDTO billingInfo = cached.get(billingMonth);
+                if (billingInfo == null) {
+                    billingInfo = fetched.get(billingMonth);
+                }
+                if (billingInfo == null) {
+                    billingInfo = fallbackBillingInfo(phoneNumber, billingMonth);
+                }
+                history.add(withIdentity(billingInfo, phoneNumber, billingMonth));
             }
 
-            // billingMonth가 null인 경우 처리
-            if (cachedInfo.getBillingMonth() == null || cachedInfo.getBillingMonth().isEmpty()) {
-                cachedInfo.setBillingMonth(billingMonth);
+            billingSuccessCounter.increment();
+            return history;
+        } catch (Exception e) {
+            log.error("Error retrieving billing history for {}: {}", phoneNumber, e.getMessage(), e);
+            billingErrorCounter.increment();
+            // 예외가 발생하면 월별로 마지막 정상 요금 정보를, 없으면 기본 응답 제공
+            List<BillingInfoResponseDTO> history = new ArrayList<>(months);
+            for (String billingMonth : billingMonths) {
+                history.add(fallbackBillingInfo(phoneNumber, billingMonth));
             }
+            return history;
+        }
+    }
 
-            return cachedInfo;
+    /**
+     * KT 어댑터에서 조회한 요금 정보를 캐시에 기록합니다.
+     * 상세 내역이 없는 월은 부정 캐시로 기록하며, 캐시 기록 실패는 응답에 영향을 주지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param fetched 청구 년월별 조회 결과
+     */
+    private void cacheFetchedBillingInfos(String phoneNumber, Map<String, BillingInfoResponseDTO> fetched) {
+        try {
+            List<BillingInfoResponseDTO> toCache = new ArrayList<>(fetched.size());
+            fetched.forEach((billingMonth, info) -> {
+                if (info.getDetails() != null) {
+                    toCache.add(info);
+                } else {
+                    cacheService.cacheNegativeBillingInfo(phoneNumber, billingMonth);
+                }
+            });
+            if (!toCache.isEmpty()) {
+                cacheService.cacheBillingInfoBatch(toCache);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to cache billing history for {}: {}", phoneNumber, e.getMessage());
         }
+    }
 
-        // 캐시에 없는 경우 KT 어댑터를 통해 조회
-        log.debug("Cache miss for {}, {}. Fetching from KT adapter.", phoneNumber, billingMonth);
-        BillingInfoResponseDTO billingInfo = ktAdapter.getBillingInfo(phoneNumber, billingMonth);
+    /**
+     * 회선 번호나 청구 년월이 비어 있는 요금 정보를 보정합니다.
+     * 캐시 객체는 다른 요청과 공유될 수 있으므로 보정이 필요하면 복사본을 반환합니다.
+     *
+     * @param billingInfo 요금 정보
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 회선 번호와 청구 년월이 채워진 요금 정보
+     */
+    private BillingInfoResponseDTO withIdentity(BillingInfoResponseDTO billingInfo, String phoneNumber,
+                                                String billingMonth) {
+        boolean missingPhoneNumber = billingInfo.getPhoneNumber() == null || billingInfo.getPhoneNumber().isEmpty();
+        boolean missingBillingMonth = billingInfo.getBillingMonth() == null || billingInfo.getBillingMonth().isEmpty();
+        if (!missingPhoneNumber && !missingBillingMonth) {
+            return billingInfo;
+        }
 
-        // 응답이 null인 경우 기본 응답 생성
-        if (billingInfo == null) {
-            log.warn("BillingInfoResponseDTO is null for phoneNumber: {}, billingMonth: {}", phoneNumber, billingMonth);
-            billingInfo = createDefaultBillingInfo(phoneNumber, billingMonth);
+        BillingInfoResponseDTO normalized = billingInfo.toBuilder().build();
+        if (missingPhoneNumber) {
+            normalized.setPhoneNumber(phoneNumber);
+        }
+        if (missingBillingMonth) {
+            normalized.setBillingMonth(billingMonth);
         }
+        return normalized;
+    }
 
-        // phoneNumber가 null인 경우 처리
-        if (billingInfo.getPhoneNumber() == null || billingInfo.getPhoneNumber().isEmpty()) {
-            billingInfo.setPhoneNumber(phoneNumber);
+    /**
+     * 여러 월의 요금 정보를 제한된 병렬도로 KT 어댑터에서 조회합니다.
+     * 조회에 실패한 월은 결과에 포함되지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonths 조회할 청구 년월 목록
+     * @return 청구 년월별 요금 정보
+     */
+    private Map<String, BillingInfoResponseDTO> fetchBillingInfos(String phoneNumber, List<String> billingMonths) {
+        Map<String, BillingInfoResponseDTO> result = new HashMap<>();
+        if (billingMonths.isEmpty()) {
+            return result;
         }
 
-        // billingMonth가 null인 경우 처리
-        if (billingInfo.getBillingMonth() == null || billingInfo.getBillingMonth().isEmpty()) {
-            billingInfo.setBillingMonth(billingMonth);
+        Semaphore permits = new Semaphore(historyMaxParallelism);
+        Map<String, CompletableFuture<BillingInfoResponseDTO>> futures = new LinkedHashMap<>();
+        for (String billingMonth : billingMonths) {
+            futures.put(billingMonth, CompletableFuture.supplyAsync(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                try {
+                    ktSystemRequestCounter.increment();
+                    return ktAdapter.getBillingInfo(phoneNumber, billingMonth);
+                } catch (BizException e) {
+                    // 요금 정보가 없다는 확정 응답만 부정 캐시 대상(상세 내역 없는 응답)으로 처리
+                    if (e.getErrorCode() == ErrorCode.NOT_FOUND) {
+                        return RedisCacheServiceImpl.createNegativePlaceholder(phoneNumber, billingMonth);
+                    }
+                    log.warn("Failed to fetch billing history month {} for {}: {}",
+                            billingMonth, phoneNumber, e.getMessage());
+                    return null;
+                } catch (Exception e) {
+                    log.warn("Failed to fetch billing history month {} for {}: {}",
+                            billingMonth, phoneNumber, e.getMessage());
+                    return null;
+                } finally {
+                    permits.release();
+                }
+            }, billingLookupExecutor));
         }
 
-        // 응답이 유효한 경우에만 캐시에 저장
-        if (billingInfo != null && billingInfo.getDetails() != null) {
-            // 조회 결과를 캐시에 저장
-            cacheService.cacheBillingInfo(phoneNumber, billingMonth, billingInfo);
+        futures.forEach((billingMonth, future) -> {
+            BillingInfoResponseDTO billingInfo = future.join();
+            if (billingInfo != null) {
+                billingInfo.setPhoneNumber(phoneNumber);
+                billingInfo.setBillingMonth(billingMonth);
+                result.put(billingMonth, billingInfo);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 요금 정보를 조회합니다.
+     * 캐시에서 먼저 조회하고, 캐시에 없는 경우 KT 어댑터를 통해 조회합니다.
+     * soft TTL이 지난 항목은 즉시 반환하고 백그라운드에서 한 번만 갱신합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO getBillingInfo(String phoneNumber, String billingMonth) {
+        // 캐시에서 먼저 조회
+        BillingCacheEntry cachedEntry = cacheService.getCachedBillingEntry(phoneNumber, billingMonth);
+        return resolveBillingInfo(phoneNumber, billingMonth, cachedEntry);
+    }
+
+    /**
+     * 캐시 조회 결과로 요금 정보를 결정합니다.
+     * 캐시에 없는 경우 KT 어댑터를 통해 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param cachedEntry 캐시 조회 결과, 없으면 null
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO resolveBillingInfo(String phoneNumber, String billingMonth,
+                                                      BillingCacheEntry cachedEntry) {
+        if (cachedEntry != null) {
+            BillingInfoResponseDTO cachedInfo = cachedEntry.value();
+            log.debug("Cache hit for {}, {} (stale: {})", phoneNumber, billingMonth, cachedEntry.stale());
+
+            if (cachedEntry.stale() && staleWhileRevalidate) {
+                billingInfoLoader.refreshAsync(phoneNumber, billingMonth);
+            }
+
+            // phoneNumber, billingMonth가 null인 경우 처리
+            return withIdentity(cachedInfo, phoneNumber, billingMonth);
         }
 
-        return billingInfo;
+        // 캐시에 없는 경우 KT 어댑터를 통해 조회
+        log.debug("Cache miss for {}, {}. Fetching from KT adapter.", phoneNumber, billingMonth);
+        return billingInfoLoader.load(phoneNumber, billingMonth);
     }
 
     /**
@@ -187,6 +437,28 @@ public class BillingServiceImpl implements BillingService {
         return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
     }
 
+    /**
+     * KT 영업시스템 조회에 실패했을 때 제공할 요금 정보를 결정합니다.
+     * 주어진 순서대로 마지막 정상 요금 정보를 찾아 stale로 표시해 반환하고,
+     * 어느 월에도 없으면 첫 번째 월의 기본 응답을 반환합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonths 확인할 청구 년월 목록 (YYYYMM 형식, 우선순위 순)
+     * @return 요금 정보
+     */
+    private BillingInfoResponseDTO fallbackBillingInfo(String phoneNumber, String... billingMonths) {
+        for (String billingMonth : billingMonths) {
+            BillingInfoResponseDTO lastKnownGood = cacheService.getLastKnownGoodBillingInfo(phoneNumber, billingMonth);
+            if (lastKnownGood != null) {
+                log.info("Serving last known good billing info for {}, {}", phoneNumber, billingMonth);
+                billingLastKnownGoodServedCounter.increment();
+                lastKnownGood.setStale(true);
+                return lastKnownGood;
+            }
+        }
+        return createDefaultBillingInfo(phoneNumber, billingMonths[0]);
+    }
+
     /**
      * 기본 요금 정보 응답을 생성합니다.
      *
@@ -195,13 +467,7 @@ public class BillingServiceImpl implements BillingService {
      * @return 기본 요금 정보 응답
      */
     private BillingInfoResponseDTO createDefaultBillingInfo(String phoneNumber, String billingMonth) {
-        return BillingInfoResponseDTO.builder()
-                .phoneNumber(phoneNumber)
-                .billingMonth(billingMonth)
-                .totalFee(0)
-                .details(java.util.Collections.emptyList())
-                .discounts(java.util.Collections.emptyList())
-                .build();
+        return BillingInfoLoader.createDefaultBillingInfo(phoneNumber, billingMonth);
     }
 
     /**
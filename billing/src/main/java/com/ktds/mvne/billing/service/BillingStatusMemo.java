@@ -0,0 +1,226 @@
+package com.ktds.mvne.billing.service;
+
+import com.ktds.mvne.billing.dto.BillingStatusResponse;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 청구월 단위로 청구 상태 확인 결과를 메모이즈하는 컴포넌트입니다.
+ *
+ * <p>청구 데이터 생성 여부는 회선별 요청이 아니라 월 단위 일정에 따라 바뀌므로,
+ * 생성 완료 상태는 다음 달이 시작될 때까지 유지하고 미생성 상태는 짧은 TTL 동안만 유지합니다.
+ * 요금 정보 변경 알림 중 메모된 결과를 바꿀 수 있는 알림(메모보다 새 청구월이거나 메모가 미생성 상태)을 받으면
+ * 무효화하고, Redis 무효화 채널로 다른 인스턴스에도 알립니다.
+ * 이 인스턴스에 메모가 없어 영향 여부를 알 수 없는 알림은 청구월 단위로 모아 주기적으로 한 번만 발행합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BillingStatusMemo implements MessageListener {
+
+    private static final String ANY_MONTH = "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Counter billingStatusMemoHitCounter;
+    private final Counter billingStatusMemoMissCounter;
+    private final AtomicReference<Memo> memo = new AtomicReference<>();
+    private final Set<String> pendingInvalidations = ConcurrentHashMap.newKeySet();
+
+    @Value("${billing.status-memo.enabled:true}")
+    private boolean enabled;
+
+    @Value("${billing.status-memo.not-generated-ttl-seconds:300}")
+    private long notGeneratedTtlSeconds;
+
+    @Value("${billing.status-memo.invalidation-channel:billing:status-memo:invalidate}")
+    private String invalidationChannel;
+
+    /**
+     * 무효화 채널을 구독합니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+        }
+    }
+
+    /**
+     * 현재 청구월에 대해 메모된 청구 상태를 조회합니다.
+     *
+     * @param phoneNumber 응답에 채울 회선 번호
+     * @return 메모된 청구 상태, 없거나 만료된 경우 null
+     */
+    public BillingStatusResponse get(String phoneNumber) {
+        if (!enabled) {
+            return null;
+        }
+
+        Memo current = memo.get();
+        if (current == null || !current.isValid(YearMonth.now(), System.currentTimeMillis())) {
+            billingStatusMemoMissCounter.increment();
+            return null;
+        }
+
+        billingStatusMemoHitCounter.increment();
+        return BillingStatusResponse.builder()
+                .phoneNumber(phoneNumber)
+                .currentBillingMonth(current.currentBillingMonth())
+                .billingGenerated(current.billingGenerated())
+                .build();
+    }
+
+    /**
+     * 청구 상태 확인 결과를 현재 청구월에 대해 메모합니다.
+     *
+     * @param statusResponse KT 어댑터의 청구 상태 응답
+     */
+    public void put(BillingStatusResponse statusResponse) {
+        if (!enabled || statusResponse == null || statusResponse.getCurrentBillingMonth() == null) {
+            return;
+        }
+
+        YearMonth month = YearMonth.now();
+        long now = System.currentTimeMillis();
+        long expiresAt = statusResponse.isBillingGenerated()
+                ? month.plusMonths(1).atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : now + TimeUnit.SECONDS.toMillis(notGeneratedTtlSeconds);
+
+        memo.set(new Memo(month, statusResponse.getCurrentBillingMonth(),
+                statusResponse.isBillingGenerated(), expiresAt));
+        log.debug("Memoized billing status for {}: generated={}, expiresAt={}",
+                month, statusResponse.isBillingGenerated(), expiresAt);
+    }
+
+    /**
+     * 요금 정보 변경 알림이 메모된 청구 상태를 바꿀 수 있으면 무효화하고 다른 인스턴스에 알립니다.
+     * 이 인스턴스에 메모가 없으면 다른 인스턴스의 메모 상태를 알 수 없으므로, 알림마다 발행하지 않고
+     * 청구월 단위로 모아 {@link #flushPendingInvalidations()}에서 발행합니다.
+     *
+     * @param billingMonth 변경 알림의 청구 년월 (yyyyMM)
+     */
+    public void onBillingChange(String billingMonth) {
+        if (!enabled) {
+            return;
+        }
+
+        String invalidatedMonth = billingMonth != null ? billingMonth : ANY_MONTH;
+        Memo current = memo.get();
+        if (current == null) {
+            pendingInvalidations.add(invalidatedMonth);
+            return;
+        }
+        if (!current.isAffectedBy(billingMonth)) {
+            return;
+        }
+
+        invalidateIfAffected(billingMonth);
+        publishInvalidation(invalidatedMonth);
+    }
+
+    /**
+     * 모아 둔 청구 상태 메모 무효화 메시지를 청구월마다 한 번씩 발행합니다.
+     * 청구월을 알 수 없는 알림이 있으면 전체 무효화 메시지 하나로 대신합니다.
+     */
+    @Scheduled(fixedDelayString = "${billing.status-memo.publish-interval-ms:1000}")
+    public void flushPendingInvalidations() {
+        if (pendingInvalidations.isEmpty()) {
+            return;
+        }
+
+        List<String> billingMonths = new ArrayList<>(pendingInvalidations);
+        pendingInvalidations.removeAll(billingMonths);
+        if (billingMonths.contains(ANY_MONTH)) {
+            publishInvalidation(ANY_MONTH);
+            return;
+        }
+        billingMonths.forEach(this::publishInvalidation);
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 청구 상태 메모 무효화 메시지를 처리합니다.
+     *
+     * @param message 변경 알림의 청구 년월이 담긴 메시지
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String billingMonth = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("Received billing status memo invalidation for month: {}", billingMonth);
+        invalidateIfAffected(ANY_MONTH.equals(billingMonth) ? null : billingMonth);
+    }
+
+    /**
+     * 메모된 청구 상태가 변경 알림의 영향을 받는 경우에만 무효화합니다.
+     *
+     * @param billingMonth 변경 알림의 청구 년월 (알 수 없으면 null)
+     */
+    private void invalidateIfAffected(String billingMonth) {
+        Memo current = memo.get();
+        if (current != null && current.isAffectedBy(billingMonth) && memo.compareAndSet(current, null)) {
+            log.debug("Billing status memo invalidated by change for month: {}", billingMonth);
+        }
+    }
+
+    /**
+     * 청구 상태 메모 무효화 메시지를 발행합니다.
+     *
+     * @param billingMonth 변경 알림의 청구 년월
+     */
+    private void publishInvalidation(String billingMonth) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, billingMonth);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스는 메모 만료까지 이전 상태를 사용
+            log.error("Failed to publish billing status memo invalidation for month: {}: {}",
+                    billingMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * 메모된 청구 상태입니다.
+     *
+     * @param month 메모한 시점의 청구월
+     * @param currentBillingMonth KT 영업시스템 기준 청구 년월
+     * @param billingGenerated 청구 데이터 생성 여부
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    private record Memo(YearMonth month, String currentBillingMonth, boolean billingGenerated, long expiresAt) {
+
+        boolean isValid(YearMonth now, long nowMillis) {
+            return month.equals(now) && nowMillis < expiresAt;
+        }
+
+        /**
+         * 변경 알림이 메모된 결과를 바꿀 수 있는지 확인합니다.
+         * 미생성 상태이거나 알림의 청구월이 메모된 청구월보다 새로우면 영향을 받습니다.
+         *
+         * @param billingMonth 변경 알림의 청구 년월 (알 수 없으면 null)
+         * @return 영향을 받는 경우 true
+         */
+        boolean isAffectedBy(String billingMonth) {
+            return !billingGenerated || billingMonth == null || billingMonth.compareTo(currentBillingMonth) > 0;
+        }
+    }
+}
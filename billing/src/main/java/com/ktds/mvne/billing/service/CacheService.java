@@ -1,7 +1,12 @@
 package com.ktds.mvne.billing.service;
 
+import com.ktds.mvne.billing.dto.BillingChangeNotificationRequest;
 import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 캐싱 관련 서비스 인터페이스입니다.
  */
@@ -16,6 +21,89 @@ public interface CacheService {
      */
     BillingInfoResponseDTO getCachedBillingInfo(String phoneNumber, String billingMonth);
 
+    /**
+     * 캐시에서 요금 정보를 갱신 필요 여부와 함께 조회합니다.
+     * soft TTL을 지원하지 않는 구현체는 항상 최신 상태로 간주합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시 항목, 캐시에 없는 경우 null
+     */
+    default BillingCacheEntry getCachedBillingEntry(String phoneNumber, String billingMonth) {
+        BillingInfoResponseDTO cachedInfo = getCachedBillingInfo(phoneNumber, billingMonth);
+        return cachedInfo != null ? new BillingCacheEntry(cachedInfo, false) : null;
+    }
+
+    /**
+     * 여러 월의 요금 정보를 캐시에서 한 번에 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonths 청구 년월 목록 (YYYYMM 형식)
+     * @return 청구 년월별 캐시된 요금 정보 (캐시에 없는 월은 포함되지 않음)
+     */
+    default Map<String, BillingInfoResponseDTO> getCachedBillingInfos(String phoneNumber, List<String> billingMonths) {
+        Map<String, BillingInfoResponseDTO> result = new HashMap<>();
+        for (String billingMonth : billingMonths) {
+            BillingInfoResponseDTO cachedInfo = getCachedBillingInfo(phoneNumber, billingMonth);
+            if (cachedInfo != null) {
+                result.put(billingMonth, cachedInfo);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 회선 중 해당 월의 요금 정보가 캐시에 없는 회선만 골라냅니다.
+     * 구현체는 KOS에 없는 것으로 네거티브 캐시된 회선도 이미 처리된 것으로 보고 제외할 수 있습니다.
+     *
+     * @param phoneNumbers 회선 번호 목록
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시에 없는 회선 번호 목록 (입력 순서 유지)
+     */
+    default List<String> findUncachedPhoneNumbers(List<String> phoneNumbers, String billingMonth) {
+        return phoneNumbers.stream()
+                .filter(phoneNumber -> getCachedBillingInfo(phoneNumber, billingMonth) == null)
+                .toList();
+    }
+
+    /**
+     * KOS 장애 시 제공할 마지막 정상 요금 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 마지막 정상 요금 정보, 없으면 null
+     */
+    default BillingInfoResponseDTO getLastKnownGoodBillingInfo(String phoneNumber, String billingMonth) {
+        return null;
+    }
+
+    /**
+     * KOS에 요금 정보가 없는 회선/월을 일반 캐시와 분리된 키에 짧은 TTL로 저장합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    default void cacheNegativeBillingInfo(String phoneNumber, String billingMonth) {
+    }
+
+    /**
+     * KOS에 등록되지 않은 회선으로 부정 캐시되어 있는지 확인합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 부정 캐시되어 있으면 true
+     */
+    default boolean isNegativeCustomerInfo(String phoneNumber) {
+        return false;
+    }
+
+    /**
+     * KOS에 등록되지 않은 회선을 짧은 TTL로 부정 캐시합니다.
+     *
+     * @param phoneNumber 회선 번호
+     */
+    default void cacheNegativeCustomerInfo(String phoneNumber) {
+    }
+
     /**
      * 요금 정보를 캐시에 저장합니다.
      *
@@ -25,6 +113,33 @@ public interface CacheService {
      */
     void cacheBillingInfo(String phoneNumber, String billingMonth, BillingInfoResponseDTO billingInfo);
 
+    /**
+     * 여러 요금 정보를 한 번에 캐시에 저장합니다.
+     * 각 요금 정보의 회선 번호와 청구 년월로 캐시 키를 만듭니다.
+     *
+     * @param billingInfos 저장할 요금 정보 목록
+     */
+    default void cacheBillingInfoBatch(List<BillingInfoResponseDTO> billingInfos) {
+        for (BillingInfoResponseDTO billingInfo : billingInfos) {
+            cacheBillingInfo(billingInfo.getPhoneNumber(), billingInfo.getBillingMonth(), billingInfo);
+        }
+    }
+
+    /**
+     * 캐시된 요금 정보에 항목별 변경 내역을 직접 반영합니다.
+     * 변경 내역의 금액은 해당 항목의 변경 후 금액으로 간주합니다.
+     * 증분 반영을 지원하지 않는 구현체는 항상 재조회를 요구합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param details 항목별 변경 내역
+     * @return 반영 결과
+     */
+    default BillingChangeResult applyBillingChange(String phoneNumber, String billingMonth,
+                                                   List<BillingChangeNotificationRequest.BillingChangeDetail> details) {
+        return BillingChangeResult.REFETCH_REQUIRED;
+    }
+
     /**
      * 특정 회선의 특정 월 요금 정보 캐시를 갱신합니다.
      *
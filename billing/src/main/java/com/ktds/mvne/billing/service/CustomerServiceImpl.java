@@ -2,6 +2,8 @@ package com.ktds.mvne.billing.service;
 
 import com.ktds.mvne.billing.adapter.KTAdapter;
 import com.ktds.mvne.billing.dto.CustomerInfoResponseDTO;
+import com.ktds.mvne.billing.dto.ProductInfoDTO;
+import com.ktds.mvne.common.cache.CustomerProfileCache;
 import com.ktds.mvne.common.exception.BizException;
 import com.ktds.mvne.common.exception.ErrorCode;
 import com.ktds.mvne.common.util.ValidationUtil;
@@ -17,10 +19,16 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class CustomerServiceImpl implements CustomerService {
 
+    private static final String UNKNOWN = "UNKNOWN";
+
     private final KTAdapter ktAdapter;
+    private final CacheService cacheService;
+    private final CustomerProfileCache<CustomerInfoResponseDTO> customerProfileCache;
 
     /**
      * 고객 정보를 조회합니다.
+     * 로컬/Redis 고객 정보 캐시를 먼저 확인하고, 없을 때만 KT 어댑터를 호출합니다.
+     * KOS에 등록되지 않은 회선은 짧은 TTL로 부정 캐시하여 반복 조회 시 KOS를 호출하지 않습니다.
      *
      * @param phoneNumber 회선 번호
      * @return 고객 정보
@@ -28,7 +36,58 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     public CustomerInfoResponseDTO getCustomerInfo(String phoneNumber) {
         validatePhoneNumber(phoneNumber);
-        return ktAdapter.getCustomerInfo(phoneNumber);
+
+        if (cacheService.isNegativeCustomerInfo(phoneNumber)) {
+            log.debug("Negative cache hit for customer info: {}", phoneNumber);
+            return createUnknownCustomerInfo(phoneNumber);
+        }
+
+        return customerProfileCache.get(phoneNumber, () -> loadCustomerInfo(phoneNumber));
+    }
+
+    /**
+     * KT 어댑터에서 고객 정보를 조회하고, 등록되지 않은 회선이면 부정 캐시에 저장합니다.
+     * KOS가 회선이 없다고 확정 응답(NOT_FOUND)한 경우에만 부정 캐시하며,
+     * 부정 캐시 적중 시와 같은 기본 고객 정보를 반환합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 고객 정보
+     */
+    private CustomerInfoResponseDTO loadCustomerInfo(String phoneNumber) {
+        CustomerInfoResponseDTO response;
+        try {
+            response = ktAdapter.getCustomerInfo(phoneNumber);
+        } catch (BizException e) {
+            if (e.getErrorCode() != ErrorCode.NOT_FOUND) {
+                throw e;
+            }
+            cacheService.cacheNegativeCustomerInfo(phoneNumber);
+            return createUnknownCustomerInfo(phoneNumber);
+        }
+
+        if (response.getStatus() == null || UNKNOWN.equals(response.getStatus())) {
+            cacheService.cacheNegativeCustomerInfo(phoneNumber);
+        }
+        return response;
+    }
+
+    /**
+     * KOS에 등록되지 않은 회선에 대한 기본 고객 정보를 생성합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 기본 고객 정보
+     */
+    private CustomerInfoResponseDTO createUnknownCustomerInfo(String phoneNumber) {
+        ProductInfoDTO emptyProduct = new ProductInfoDTO();
+        emptyProduct.setProductCode(UNKNOWN);
+        emptyProduct.setProductName("Unknown Product");
+        emptyProduct.setFee(0);
+
+        CustomerInfoResponseDTO response = new CustomerInfoResponseDTO();
+        response.setPhoneNumber(phoneNumber);
+        response.setStatus(UNKNOWN);
+        response.setCurrentProduct(emptyProduct);
+        return response;
     }
 
     /**
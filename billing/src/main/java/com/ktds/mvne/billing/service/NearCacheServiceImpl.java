@@ -0,0 +1,371 @@
+package com.ktds.mvne.billing.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktds.mvne.billing.dto.BillingChangeNotificationRequest;
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 캐시 앞단에 로컬(L1) 캐시를 두는 2단 캐싱 서비스 구현체입니다.
+ * 요금 정보가 갱신되면 Redis pub/sub으로 모든 인스턴스의 로컬 캐시를 무효화합니다.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@Slf4j
+public class NearCacheServiceImpl implements CacheService, MessageListener {
+
+    private static final int ENTRY_BASE_WEIGHT = 256;
+    private static final int LINE_ITEM_WEIGHT = 96;
+    private static final String KEY_DELIMITER = "\n";
+
+    private final RedisCacheServiceImpl redisCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Counter cacheL1HitCounter;
+    private final Counter cacheL1MissCounter;
+
+    @Value("${cache.billing-info.near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.billing-info.near-cache.max-weight-bytes:33554432}")
+    private long maxWeightBytes;
+
+    @Value("${cache.billing-info.near-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${cache.billing-info.near-cache.invalidation-channel:billing:cache:invalidate}")
+    private String invalidationChannel;
+
+    private Cache<String, BillingInfoResponseDTO> localCache;
+
+    /**
+     * 로컬 캐시를 초기화하고 무효화 채널을 구독합니다.
+     */
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, BillingInfoResponseDTO value) -> estimateWeight(value))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+        }
+        log.info("Near cache initialized - enabled: {}, maxWeightBytes: {}, ttlSeconds: {}",
+                enabled, maxWeightBytes, ttlSeconds);
+    }
+
+    /**
+     * 로컬 캐시, Redis 캐시 순으로 요금 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시된 요금 정보, 캐시에 없는 경우 null
+     */
+    @Override
+    public BillingInfoResponseDTO getCachedBillingInfo(String phoneNumber, String billingMonth) {
+        if (!enabled) {
+            return redisCacheService.getCachedBillingInfo(phoneNumber, billingMonth);
+        }
+
+        String cacheKey = RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth);
+        BillingInfoResponseDTO localInfo = localCache.getIfPresent(cacheKey);
+        if (localInfo != null) {
+            log.debug("L1 cache hit for key: {}", cacheKey);
+            cacheL1HitCounter.increment();
+            return copyOf(localInfo);
+        }
+
+        cacheL1MissCounter.increment();
+        BillingInfoResponseDTO cachedInfo = redisCacheService.getCachedBillingInfo(phoneNumber, billingMonth);
+        if (cachedInfo != null) {
+            localCache.put(cacheKey, copyOf(cachedInfo));
+        }
+        return cachedInfo;
+    }
+
+    /**
+     * 로컬 캐시, Redis 캐시 순으로 요금 정보를 갱신 필요 여부와 함께 조회합니다.
+     * stale 항목은 갱신 후 다시 Redis에서 읽도록 로컬 캐시에 올리지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시 항목, 캐시에 없는 경우 null
+     */
+    @Override
+    public BillingCacheEntry getCachedBillingEntry(String phoneNumber, String billingMonth) {
+        if (!enabled) {
+            return redisCacheService.getCachedBillingEntry(phoneNumber, billingMonth);
+        }
+
+        String cacheKey = RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth);
+        BillingInfoResponseDTO localInfo = localCache.getIfPresent(cacheKey);
+        if (localInfo != null) {
+            log.debug("L1 cache hit for key: {}", cacheKey);
+            cacheL1HitCounter.increment();
+            return new BillingCacheEntry(copyOf(localInfo), false);
+        }
+
+        cacheL1MissCounter.increment();
+        BillingCacheEntry entry = redisCacheService.getCachedBillingEntry(phoneNumber, billingMonth);
+        if (entry != null && !entry.stale() && !entry.negative()) {
+            localCache.put(cacheKey, copyOf(entry.value()));
+        }
+        return entry;
+    }
+
+    /**
+     * 여러 월의 요금 정보를 로컬 캐시에서 찾고, 없는 월만 Redis에서 한 번에 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonths 청구 년월 목록 (YYYYMM 형식)
+     * @return 청구 년월별 캐시된 요금 정보 (캐시에 없는 월은 포함되지 않음)
+     */
+    @Override
+    public Map<String, BillingInfoResponseDTO> getCachedBillingInfos(String phoneNumber, List<String> billingMonths) {
+        if (!enabled) {
+            return redisCacheService.getCachedBillingInfos(phoneNumber, billingMonths);
+        }
+
+        Map<String, BillingInfoResponseDTO> result = new HashMap<>();
+        List<String> remoteMonths = new ArrayList<>();
+        for (String billingMonth : billingMonths) {
+            BillingInfoResponseDTO localInfo =
+                    localCache.getIfPresent(RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth));
+            if (localInfo != null) {
+                cacheL1HitCounter.increment();
+                result.put(billingMonth, copyOf(localInfo));
+            } else {
+                cacheL1MissCounter.increment();
+                remoteMonths.add(billingMonth);
+            }
+        }
+
+        Map<String, BillingInfoResponseDTO> remote = redisCacheService.getCachedBillingInfos(phoneNumber, remoteMonths);
+        remote.forEach((billingMonth, cachedInfo) -> {
+            // 부정 캐시 항목은 로컬 캐시에 올리지 않음
+            if (cachedInfo.getDetails() != null) {
+                localCache.put(RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth), copyOf(cachedInfo));
+            }
+        });
+        result.putAll(remote);
+        return result;
+    }
+
+    /**
+     * 캐시 적재 여부는 Redis를 기준으로 확인합니다.
+     *
+     * @param phoneNumbers 회선 번호 목록
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시에 없는 회선 번호 목록 (입력 순서 유지)
+     */
+    @Override
+    public List<String> findUncachedPhoneNumbers(List<String> phoneNumbers, String billingMonth) {
+        return redisCacheService.findUncachedPhoneNumbers(phoneNumbers, billingMonth);
+    }
+
+    /**
+     * 마지막 정상 요금 정보는 장애 시에만 사용하므로 로컬 캐시를 거치지 않고 Redis에서 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 마지막 정상 요금 정보, 없으면 null
+     */
+    @Override
+    public BillingInfoResponseDTO getLastKnownGoodBillingInfo(String phoneNumber, String billingMonth) {
+        return redisCacheService.getLastKnownGoodBillingInfo(phoneNumber, billingMonth);
+    }
+
+    /**
+     * 부정 캐시는 TTL이 짧으므로 로컬 캐시를 거치지 않고 Redis에만 저장합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    @Override
+    public void cacheNegativeBillingInfo(String phoneNumber, String billingMonth) {
+        redisCacheService.cacheNegativeBillingInfo(phoneNumber, billingMonth);
+    }
+
+    /**
+     * 고객 정보 부정 캐시는 Redis에서 확인합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 부정 캐시되어 있으면 true
+     */
+    @Override
+    public boolean isNegativeCustomerInfo(String phoneNumber) {
+        return redisCacheService.isNegativeCustomerInfo(phoneNumber);
+    }
+
+    /**
+     * 고객 정보 부정 캐시는 Redis에만 저장합니다.
+     *
+     * @param phoneNumber 회선 번호
+     */
+    @Override
+    public void cacheNegativeCustomerInfo(String phoneNumber) {
+        redisCacheService.cacheNegativeCustomerInfo(phoneNumber);
+    }
+
+    /**
+     * 요금 정보를 Redis와 로컬 캐시에 저장합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param billingInfo 요금 정보
+     */
+    @Override
+    public void cacheBillingInfo(String phoneNumber, String billingMonth, BillingInfoResponseDTO billingInfo) {
+        redisCacheService.cacheBillingInfo(phoneNumber, billingMonth, billingInfo);
+
+        if (enabled && billingInfo != null && billingInfo.getDetails() != null && billingInfo.getTotalFee() != null) {
+            localCache.put(RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth), copyOf(billingInfo));
+        }
+    }
+
+    /**
+     * 여러 요금 정보를 Redis에 한 번에 저장하고 모든 인스턴스의 로컬 캐시를 무효화합니다.
+     *
+     * @param billingInfos 저장할 요금 정보 목록
+     */
+    @Override
+    public void cacheBillingInfoBatch(List<BillingInfoResponseDTO> billingInfos) {
+        redisCacheService.cacheBillingInfoBatch(billingInfos);
+
+        List<String> cacheKeys = billingInfos.stream()
+                .map(info -> RedisCacheServiceImpl.generateCacheKey(info.getPhoneNumber(), info.getBillingMonth()))
+                .toList();
+        localCache.invalidateAll(cacheKeys);
+
+        if (enabled && !cacheKeys.isEmpty()) {
+            publishInvalidation(String.join(KEY_DELIMITER, cacheKeys));
+        }
+    }
+
+    /**
+     * Redis 캐시에 변경 내역을 반영하고 모든 인스턴스의 로컬 캐시를 무효화합니다.
+     * Redis에 항목이 없거나 재조회가 필요한 경우에도 다른 인스턴스의 로컬 캐시에는 변경 전 항목이 남아 있을 수 있으므로
+     * 반영 결과와 관계없이 무효화 메시지를 발행합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param details 항목별 변경 내역
+     * @return 반영 결과
+     */
+    @Override
+    public BillingChangeResult applyBillingChange(String phoneNumber, String billingMonth,
+                                                  List<BillingChangeNotificationRequest.BillingChangeDetail> details) {
+        BillingChangeResult result = redisCacheService.applyBillingChange(phoneNumber, billingMonth, details);
+
+        String cacheKey = RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth);
+        localCache.invalidate(cacheKey);
+        if (enabled) {
+            publishInvalidation(cacheKey);
+        }
+        return result;
+    }
+
+    /**
+     * 요금 정보 캐시를 갱신하고 모든 인스턴스의 로컬 캐시를 무효화합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    @Override
+    public void updateCache(String phoneNumber, String billingMonth) {
+        String cacheKey = RedisCacheServiceImpl.generateCacheKey(phoneNumber, billingMonth);
+        localCache.invalidate(cacheKey);
+
+        redisCacheService.updateCache(phoneNumber, billingMonth);
+
+        if (enabled) {
+            publishInvalidation(cacheKey);
+        }
+    }
+
+    /**
+     * 로컬 캐시 항목의 복사본을 생성합니다.
+     * 호출자가 응답을 보정하거나 stale 표시를 하더라도 로컬 캐시에 저장된 객체가 바뀌지 않도록
+     * 저장과 반환 시 모두 복사본을 사용합니다.
+     *
+     * @param billingInfo 요금 정보
+     * @return 목록 필드까지 복사한 요금 정보
+     */
+    private static BillingInfoResponseDTO copyOf(BillingInfoResponseDTO billingInfo) {
+        return billingInfo.toBuilder()
+                .details(billingInfo.getDetails() == null ? null : new ArrayList<>(billingInfo.getDetails()))
+                .discounts(billingInfo.getDiscounts() == null ? null : new ArrayList<>(billingInfo.getDiscounts()))
+                .build();
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 캐시 무효화 메시지를 처리합니다.
+     *
+     * @param message 무효화할 캐시 키가 담긴 메시지 (여러 개인 경우 줄바꿈으로 구분)
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheKeys = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("Received near cache invalidation for keys: {}", cacheKeys);
+        localCache.invalidateAll(Arrays.asList(cacheKeys.split(KEY_DELIMITER)));
+    }
+
+    /**
+     * 캐시 무효화 메시지를 발행합니다.
+     *
+     * @param cacheKey 무효화할 캐시 키 (여러 개인 경우 줄바꿈으로 구분)
+     */
+    private void publishInvalidation(String cacheKey) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, cacheKey);
+            log.debug("Published near cache invalidation for key: {}", cacheKey);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스는 로컬 TTL 만료까지 이전 값을 사용
+            log.error("Failed to publish near cache invalidation for key: {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 요금 정보의 대략적인 메모리 사용량을 계산합니다.
+     *
+     * @param value 요금 정보
+     * @return 추정 바이트 수
+     */
+    private int estimateWeight(BillingInfoResponseDTO value) {
+        int lineItems = 0;
+        if (value.getDetails() != null) {
+            lineItems += value.getDetails().size();
+        }
+        if (value.getDiscounts() != null) {
+            lineItems += value.getDiscounts().size();
+        }
+        if (value.getDeviceInstallment() != null) {
+            lineItems++;
+        }
+        return ENTRY_BASE_WEIGHT + lineItems * LINE_ITEM_WEIGHT;
+    }
+}
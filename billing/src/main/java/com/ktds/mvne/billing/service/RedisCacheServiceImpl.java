@@ -1,15 +1,24 @@
 package com.ktds.mvne.billing.service;
 
 import com.ktds.mvne.billing.adapter.KTAdapter;
+import com.ktds.mvne.billing.dto.BillingChangeNotificationRequest;
 import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import com.ktds.mvne.billing.dto.FeeDetailDTO;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -20,6 +29,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RedisCacheServiceImpl implements CacheService {
 
+    private static final int MAX_CAS_ATTEMPTS = 3;
+
     private final RedisTemplate<String, BillingInfoResponseDTO> redisTemplate;
     private final KTAdapter ktAdapter;
     private final Timer cacheOperationTimer;
@@ -27,10 +38,27 @@ public class RedisCacheServiceImpl implements CacheService {
     private final Counter cacheMissCounter;
     private final Timer ktAdapterOperationTimer;
     private final Counter ktSystemRequestCounter;
+    private final Counter cacheNegativeHitCounter;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Value("${cache.billing-info.ttl-hours:24}")
     private long ttlHours;
 
+    @Value("${cache.billing-info.stale-while-revalidate.soft-ttl-minutes:1200}")
+    private long softTtlMinutes;
+
+    @Value("${cache.negative.enabled:true}")
+    private boolean negativeCacheEnabled;
+
+    @Value("${cache.negative.ttl-seconds:60}")
+    private long negativeTtlSeconds;
+
+    @Value("${cache.billing-info.last-known-good.enabled:true}")
+    private boolean lastKnownGoodEnabled;
+
+    @Value("${cache.billing-info.last-known-good.ttl-days:35}")
+    private long lastKnownGoodTtlDays;
+
     /**
      * 캐시에서 요금 정보를 조회합니다.
      *
@@ -40,18 +68,51 @@ public class RedisCacheServiceImpl implements CacheService {
      */
     @Override
     public BillingInfoResponseDTO getCachedBillingInfo(String phoneNumber, String billingMonth) {
+        BillingCacheEntry entry = getCachedBillingEntry(phoneNumber, billingMonth);
+        return entry != null && !entry.negative() ? entry.value() : null;
+    }
+
+    /**
+     * 캐시에서 요금 정보와 남은 TTL, 부정 캐시 항목을 한 번의 파이프라인으로 조회합니다.
+     * 저장 후 경과 시간이 soft TTL을 넘은 항목은 stale로 표시합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시 항목, 캐시에 없는 경우 null
+     */
+    @Override
+    public BillingCacheEntry getCachedBillingEntry(String phoneNumber, String billingMonth) {
         try {
             String cacheKey = generateCacheKey(phoneNumber, billingMonth);
             log.debug("Looking up cache with key: {}", cacheKey);
 
             Timer.Sample cacheSample = Timer.start();
-            BillingInfoResponseDTO cachedInfo = redisTemplate.opsForValue().get(cacheKey);
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, BillingInfoResponseDTO> ops =
+                            (RedisOperations<String, BillingInfoResponseDTO>) operations;
+                    ops.opsForValue().get(cacheKey);
+                    ops.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+                    if (negativeCacheEnabled) {
+                        ops.opsForValue().get(generateNegativeKey(phoneNumber, billingMonth));
+                    }
+                    return null;
+                }
+            });
             cacheSample.stop(cacheOperationTimer);
 
+            BillingInfoResponseDTO cachedInfo = (BillingInfoResponseDTO) results.get(0);
+            BillingInfoResponseDTO negativeInfo = negativeCacheEnabled ? (BillingInfoResponseDTO) results.get(2) : null;
             if (cachedInfo != null) {
                 log.debug("Cache hit for key: {}", cacheKey);
                 cacheHitCounter.increment();
-                return cachedInfo;
+                return new BillingCacheEntry(cachedInfo, isStale((Long) results.get(1)));
+            } else if (negativeInfo != null) {
+                log.debug("Negative cache hit for key: {}", cacheKey);
+                cacheNegativeHitCounter.increment();
+                return new BillingCacheEntry(negativeInfo, false, true);
             } else {
                 log.debug("Cache miss for key: {}", cacheKey);
                 cacheMissCounter.increment();
@@ -63,6 +124,108 @@ public class RedisCacheServiceImpl implements CacheService {
         }
     }
 
+    /**
+     * 여러 월의 요금 정보와 부정 캐시 항목을 한 번의 MGET으로 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonths 청구 년월 목록 (YYYYMM 형식)
+     * @return 청구 년월별 캐시된 요금 정보 (캐시에 없는 월은 포함되지 않고, 부정 캐시된 월은 상세 내역이 없는 응답)
+     */
+    @Override
+    public Map<String, BillingInfoResponseDTO> getCachedBillingInfos(String phoneNumber, List<String> billingMonths) {
+        Map<String, BillingInfoResponseDTO> result = new HashMap<>();
+        if (billingMonths.isEmpty()) {
+            return result;
+        }
+
+        try {
+            List<String> cacheKeys = new ArrayList<>(billingMonths.size() * 2);
+            for (String billingMonth : billingMonths) {
+                cacheKeys.add(generateCacheKey(phoneNumber, billingMonth));
+            }
+            if (negativeCacheEnabled) {
+                for (String billingMonth : billingMonths) {
+                    cacheKeys.add(generateNegativeKey(phoneNumber, billingMonth));
+                }
+            }
+
+            Timer.Sample cacheSample = Timer.start();
+            List<BillingInfoResponseDTO> values = redisTemplate.opsForValue().multiGet(cacheKeys);
+            cacheSample.stop(cacheOperationTimer);
+
+            int monthCount = billingMonths.size();
+            for (int i = 0; i < monthCount; i++) {
+                BillingInfoResponseDTO cachedInfo = values != null ? values.get(i) : null;
+                BillingInfoResponseDTO negativeInfo =
+                        values != null && negativeCacheEnabled ? values.get(monthCount + i) : null;
+                if (cachedInfo != null) {
+                    cacheHitCounter.increment();
+                    result.put(billingMonths.get(i), cachedInfo);
+                } else if (negativeInfo != null) {
+                    cacheNegativeHitCounter.increment();
+                    result.put(billingMonths.get(i), negativeInfo);
+                } else {
+                    cacheMissCounter.increment();
+                }
+            }
+            log.debug("Multi-get for {} months of {}: {} hits", billingMonths.size(), phoneNumber, result.size());
+        } catch (Exception e) {
+            log.error("Error retrieving data from cache: {} - {}", phoneNumber, billingMonths, e);
+            // 캐시 오류 시에도 서비스 지속
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 회선 중 해당 월의 요금 정보가 캐시에 없는 회선만 하나의 파이프라인(EXISTS)으로 골라냅니다.
+     * KOS에 없는 것으로 네거티브 캐시된 회선도 이미 처리된 것으로 보고 제외합니다.
+     * 값 자체는 읽지 않으므로 대량 회선 확인 시에도 전송량이 작습니다.
+     *
+     * @param phoneNumbers 회선 번호 목록
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시에 없는 회선 번호 목록 (입력 순서 유지)
+     */
+    @Override
+    public List<String> findUncachedPhoneNumbers(List<String> phoneNumbers, String billingMonth) {
+        if (phoneNumbers.isEmpty()) {
+            return phoneNumbers;
+        }
+
+        try {
+            Timer.Sample cacheSample = Timer.start();
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, BillingInfoResponseDTO> ops =
+                            (RedisOperations<String, BillingInfoResponseDTO>) operations;
+                    for (String phoneNumber : phoneNumbers) {
+                        ops.hasKey(generateCacheKey(phoneNumber, billingMonth));
+                        if (negativeCacheEnabled) {
+                            ops.hasKey(generateNegativeKey(phoneNumber, billingMonth));
+                        }
+                    }
+                    return null;
+                }
+            });
+            cacheSample.stop(cacheOperationTimer);
+
+            int stride = negativeCacheEnabled ? 2 : 1;
+            List<String> uncached = new ArrayList<>();
+            for (int i = 0; i < phoneNumbers.size(); i++) {
+                boolean cached = Boolean.TRUE.equals(results.get(i * stride));
+                boolean negativelyCached = negativeCacheEnabled && Boolean.TRUE.equals(results.get(i * stride + 1));
+                if (!cached && !negativelyCached) {
+                    uncached.add(phoneNumbers.get(i));
+                }
+            }
+            return uncached;
+        } catch (Exception e) {
+            log.error("Error checking cached billing months: {} phones - {}", phoneNumbers.size(), billingMonth, e);
+            return phoneNumbers; // 확인 실패 시 모두 미적재로 간주
+        }
+    }
+
     /**
      * 요금 정보를 캐시에 저장합니다.
      *
@@ -89,7 +252,22 @@ public class RedisCacheServiceImpl implements CacheService {
             // Redis에 저장 시도할 때 추가 예외 처리
             try {
                 Timer.Sample cacheSample = Timer.start();
-                redisTemplate.opsForValue().set(cacheKey, billingInfo, ttlHours, TimeUnit.HOURS);
+                if (lastKnownGoodEnabled) {
+                    redisTemplate.executePipelined(new SessionCallback<Object>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <K, V> Object execute(RedisOperations<K, V> operations) {
+                            RedisOperations<String, BillingInfoResponseDTO> ops =
+                                    (RedisOperations<String, BillingInfoResponseDTO>) operations;
+                            ops.opsForValue().set(cacheKey, billingInfo, ttlHours, TimeUnit.HOURS);
+                            ops.opsForValue().set(generateLastKnownGoodKey(phoneNumber, billingMonth),
+                                    billingInfo, lastKnownGoodTtlDays, TimeUnit.DAYS);
+                            return null;
+                        }
+                    });
+                } else {
+                    redisTemplate.opsForValue().set(cacheKey, billingInfo, ttlHours, TimeUnit.HOURS);
+                }
                 cacheSample.stop(cacheOperationTimer);
                 log.debug("Cached billing info for {}, {} with TTL {} hours", phoneNumber, billingMonth, ttlHours);
             } catch (Exception e) {
@@ -104,6 +282,244 @@ public class RedisCacheServiceImpl implements CacheService {
         }
     }
 
+    /**
+     * KOS에 요금 정보가 없는 회선/월을 상세 내역이 없는 응답으로 짧게 캐시합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     */
+    @Override
+    public void cacheNegativeBillingInfo(String phoneNumber, String billingMonth) {
+        if (!negativeCacheEnabled) {
+            return;
+        }
+
+        try {
+            BillingInfoResponseDTO placeholder = createNegativePlaceholder(phoneNumber, billingMonth);
+            redisTemplate.opsForValue().set(generateNegativeKey(phoneNumber, billingMonth),
+                    placeholder, negativeTtlSeconds, TimeUnit.SECONDS);
+            log.debug("Negatively cached billing info for {}, {} with TTL {} seconds",
+                    phoneNumber, billingMonth, negativeTtlSeconds);
+        } catch (Exception e) {
+            log.error("Failed to store negative billing cache: {} - {}: {}", phoneNumber, billingMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * KOS에 등록되지 않은 회선으로 부정 캐시되어 있는지 확인합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 부정 캐시되어 있으면 true
+     */
+    @Override
+    public boolean isNegativeCustomerInfo(String phoneNumber) {
+        if (!negativeCacheEnabled) {
+            return false;
+        }
+
+        try {
+            boolean negative = Boolean.TRUE.equals(stringRedisTemplate.hasKey(generateNegativeCustomerKey(phoneNumber)));
+            if (negative) {
+                cacheNegativeHitCounter.increment();
+            }
+            return negative;
+        } catch (Exception e) {
+            log.error("Error checking negative customer cache: {}", phoneNumber, e);
+            return false;
+        }
+    }
+
+    /**
+     * KOS에 등록되지 않은 회선을 짧은 TTL로 부정 캐시합니다.
+     *
+     * @param phoneNumber 회선 번호
+     */
+    @Override
+    public void cacheNegativeCustomerInfo(String phoneNumber) {
+        if (!negativeCacheEnabled) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(generateNegativeCustomerKey(phoneNumber), "1",
+                    negativeTtlSeconds, TimeUnit.SECONDS);
+            log.debug("Negatively cached customer info for {} with TTL {} seconds", phoneNumber, negativeTtlSeconds);
+        } catch (Exception e) {
+            log.error("Failed to store negative customer cache: {}: {}", phoneNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막으로 정상 조회된 요금 정보를 조회합니다.
+     * 일반 캐시보다 긴 TTL로 보관되므로 일반 캐시가 만료된 뒤에도 남아 있을 수 있습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 마지막 정상 요금 정보, 없으면 null
+     */
+    @Override
+    public BillingInfoResponseDTO getLastKnownGoodBillingInfo(String phoneNumber, String billingMonth) {
+        if (!lastKnownGoodEnabled) {
+            return null;
+        }
+
+        try {
+            Timer.Sample cacheSample = Timer.start();
+            BillingInfoResponseDTO lastKnownGood =
+                    redisTemplate.opsForValue().get(generateLastKnownGoodKey(phoneNumber, billingMonth));
+            cacheSample.stop(cacheOperationTimer);
+            return lastKnownGood;
+        } catch (Exception e) {
+            log.error("Error retrieving last known good billing info: {} - {}", phoneNumber, billingMonth, e);
+            return null;
+        }
+    }
+
+    /**
+     * 여러 요금 정보를 하나의 파이프라인으로 캐시에 저장합니다.
+     *
+     * @param billingInfos 저장할 요금 정보 목록
+     */
+    @Override
+    public void cacheBillingInfoBatch(List<BillingInfoResponseDTO> billingInfos) {
+        List<BillingInfoResponseDTO> valid = billingInfos.stream()
+                .filter(info -> info != null && info.getDetails() != null && info.getTotalFee() != null)
+                .toList();
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            Timer.Sample cacheSample = Timer.start();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, BillingInfoResponseDTO> ops =
+                            (RedisOperations<String, BillingInfoResponseDTO>) operations;
+                    for (BillingInfoResponseDTO info : valid) {
+                        ops.opsForValue().set(generateCacheKey(info.getPhoneNumber(), info.getBillingMonth()),
+                                info, ttlHours, TimeUnit.HOURS);
+                        if (lastKnownGoodEnabled) {
+                            ops.opsForValue().set(generateLastKnownGoodKey(info.getPhoneNumber(), info.getBillingMonth()),
+                                    info, lastKnownGoodTtlDays, TimeUnit.DAYS);
+                        }
+                    }
+                    return null;
+                }
+            });
+            cacheSample.stop(cacheOperationTimer);
+            log.debug("Cached {} billing infos in one pipeline with TTL {} hours", valid.size(), ttlHours);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 크리티컬한 오류가 아니므로 예외를 전파하지 않음
+            log.error("Failed to store billing info batch in Redis cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 요금 정보의 항목 금액과 총 요금을 WATCH/MULTI 기반 compare-and-set으로 갱신합니다.
+     * 다른 쓰기와 충돌하면 정해진 횟수만큼 다시 시도하며, 남은 TTL은 유지합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @param details 항목별 변경 내역
+     * @return 반영 결과
+     */
+    @Override
+    public BillingChangeResult applyBillingChange(String phoneNumber, String billingMonth,
+                                                  List<BillingChangeNotificationRequest.BillingChangeDetail> details) {
+        if (details == null || details.isEmpty()) {
+            return BillingChangeResult.REFETCH_REQUIRED;
+        }
+
+        String cacheKey = generateCacheKey(phoneNumber, billingMonth);
+        try {
+            for (int attempt = 1; attempt <= MAX_CAS_ATTEMPTS; attempt++) {
+                Timer.Sample cacheSample = Timer.start();
+                BillingChangeResult result = redisTemplate.execute(new SessionCallback<BillingChangeResult>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> BillingChangeResult execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, BillingInfoResponseDTO> ops =
+                                (RedisOperations<String, BillingInfoResponseDTO>) operations;
+                        ops.watch(cacheKey);
+
+                        BillingInfoResponseDTO cachedInfo = ops.opsForValue().get(cacheKey);
+                        Long remainingMillis = ops.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+                        if (cachedInfo == null) {
+                            ops.unwatch();
+                            return BillingChangeResult.NOT_CACHED;
+                        }
+                        if (!applyDetails(cachedInfo, details)) {
+                            ops.unwatch();
+                            return BillingChangeResult.REFETCH_REQUIRED;
+                        }
+
+                        ops.multi();
+                        if (remainingMillis != null && remainingMillis > 0) {
+                            ops.opsForValue().set(cacheKey, cachedInfo, remainingMillis, TimeUnit.MILLISECONDS);
+                        } else {
+                            ops.opsForValue().set(cacheKey, cachedInfo, ttlHours, TimeUnit.HOURS);
+                        }
+                        if (lastKnownGoodEnabled) {
+                            ops.opsForValue().set(generateLastKnownGoodKey(phoneNumber, billingMonth),
+                                    cachedInfo, lastKnownGoodTtlDays, TimeUnit.DAYS);
+                        }
+                        List<Object> execResult = ops.exec();
+                        // WATCH 이후 키가 변경된 경우 EXEC 결과가 비어 있음
+                        return execResult == null || execResult.isEmpty() ? null : BillingChangeResult.APPLIED;
+                    }
+                });
+                cacheSample.stop(cacheOperationTimer);
+
+                if (result != null) {
+                    log.debug("Applied billing change to {} - result: {}", cacheKey, result);
+                    return result;
+                }
+                log.debug("Concurrent write detected for {}, retrying ({}/{})", cacheKey, attempt, MAX_CAS_ATTEMPTS);
+            }
+        } catch (Exception e) {
+            log.error("Error applying billing change to cache {}: {}", cacheKey, e.getMessage());
+        }
+        return BillingChangeResult.REFETCH_REQUIRED;
+    }
+
+    /**
+     * 요금 정보의 항목 금액을 변경 후 금액으로 바꾸고 총 요금에 차액을 반영합니다.
+     * 캐시에 없는 항목이거나 금액 정보가 없으면 반영하지 않습니다.
+     *
+     * @param billingInfo 캐시된 요금 정보
+     * @param details 항목별 변경 내역
+     * @return 모든 변경 내역을 반영한 경우 true
+     */
+    static boolean applyDetails(BillingInfoResponseDTO billingInfo,
+                                List<BillingChangeNotificationRequest.BillingChangeDetail> details) {
+        if (billingInfo.getDetails() == null || billingInfo.getTotalFee() == null) {
+            return false;
+        }
+
+        // 일부만 반영되는 것을 막기 위해 먼저 모든 항목을 확인
+        Map<String, FeeDetailDTO> items = new HashMap<>();
+        for (FeeDetailDTO item : billingInfo.getDetails()) {
+            items.put(item.getItemCode(), item);
+        }
+        for (BillingChangeNotificationRequest.BillingChangeDetail detail : details) {
+            FeeDetailDTO item = items.get(detail.getItemCode());
+            if (detail.getItemCode() == null || detail.getAmount() == null || item == null || item.getAmount() == null) {
+                return false;
+            }
+        }
+
+        int totalFee = billingInfo.getTotalFee();
+        for (BillingChangeNotificationRequest.BillingChangeDetail detail : details) {
+            FeeDetailDTO item = items.get(detail.getItemCode());
+            totalFee += detail.getAmount() - item.getAmount();
+            item.setAmount(detail.getAmount());
+        }
+        billingInfo.setTotalFee(totalFee);
+        return true;
+    }
+
     /**
      * 특정 회선의 특정 월 요금 정보 캐시를 갱신합니다.
      *
@@ -141,6 +557,35 @@ public class RedisCacheServiceImpl implements CacheService {
         }
     }
 
+    /**
+     * 남은 TTL로 저장 후 경과 시간을 계산하여 soft TTL 초과 여부를 판단합니다.
+     *
+     * @param remainingMillis Redis PTTL 결과 (밀리초)
+     * @return soft TTL을 넘은 경우 true
+     */
+    private boolean isStale(Long remainingMillis) {
+        if (remainingMillis == null || remainingMillis < 0) {
+            return false;
+        }
+        long ageMillis = TimeUnit.HOURS.toMillis(ttlHours) - remainingMillis;
+        return ageMillis > TimeUnit.MINUTES.toMillis(softTtlMinutes);
+    }
+
+    /**
+     * 부정 캐시에 저장하고 부정 캐시 적중 시 반환하는 상세 내역 없는 요금 정보를 생성합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 상세 내역이 없는 요금 정보
+     */
+    static BillingInfoResponseDTO createNegativePlaceholder(String phoneNumber, String billingMonth) {
+        return BillingInfoResponseDTO.builder()
+                .phoneNumber(phoneNumber)
+                .billingMonth(billingMonth)
+                .totalFee(0)
+                .build();
+    }
+
     /**
      * 캐시 키를 생성합니다.
      *
@@ -148,7 +593,39 @@ public class RedisCacheServiceImpl implements CacheService {
      * @param billingMonth 청구 년월 (YYYYMM 형식)
      * @return 캐시 키
      */
-    private String generateCacheKey(String phoneNumber, String billingMonth) {
+    static String generateCacheKey(String phoneNumber, String billingMonth) {
         return "billing:" + phoneNumber + ":" + billingMonth;
     }
+
+    /**
+     * 마지막 정상 요금 정보의 캐시 키를 생성합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시 키
+     */
+    static String generateLastKnownGoodKey(String phoneNumber, String billingMonth) {
+        return "billing:lkg:" + phoneNumber + ":" + billingMonth;
+    }
+
+    /**
+     * 요금 정보 부정 캐시 키를 생성합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 캐시 키
+     */
+    static String generateNegativeKey(String phoneNumber, String billingMonth) {
+        return "billing:neg:" + phoneNumber + ":" + billingMonth;
+    }
+
+    /**
+     * 고객 정보 부정 캐시 키를 생성합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 캐시 키
+     */
+    static String generateNegativeCustomerKey(String phoneNumber) {
+        return "customer:neg:" + phoneNumber;
+    }
 }
\ No newline at end of file
@@ -1,14 +1,44 @@
 package com.ktds.mvne.billing.service;
 
+import com.ktds.mvne.billing.adapter.KTAdapter;
 import com.ktds.mvne.billing.dto.BillingChangeNotificationRequest;
+import com.ktds.mvne.billing.dto.BillingInfoResponseDTO;
+import com.ktds.mvne.common.exception.BizException;
+import com.ktds.mvne.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 요금 정보 동기화 서비스 클래스입니다.
  * KT 영업시스템으로부터의 요금 정보 변경 이벤트를 처리합니다.
+ *
+ * <p>수신한 이벤트는 (회선, 청구월) 단위로 대기열에 병합되며, 주기적으로 대기열을 비워
+ * 제한된 병렬도로 KT 어댑터에서 최신 요금 정보를 조회한 뒤 한 번의 파이프라인으로 캐시에 기록합니다.
+ * 항목별 변경 내역이 있으면 KT 어댑터를 호출하지 않고 캐시된 값에 직접 반영합니다.
+ * 대기열이 가득 차면 이벤트를 거부하여 호출자가 재전송하도록 합니다.
+ * 재조회에 실패한 이벤트는 기존 캐시 항목을 그대로 두고 대기열에 다시 넣으며,
+ * 최대 시도 횟수를 넘기면 버리고 다음 조회 시 적재되도록 합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -16,25 +46,293 @@ import org.springframework.stereotype.Service;
 public class SyncService {
 
     private final CacheService cacheService;
+    private final BillingStatusMemo billingStatusMemo;
+    private final KTAdapter ktAdapter;
+    private final ExecutorService billingLookupExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Counter billingSyncReceivedCounter;
+    private final Counter billingSyncMergedCounter;
+    private final Counter billingSyncRejectedCounter;
+    private final Counter billingSyncDroppedCounter;
+    private final Counter ktSystemRequestCounter;
+    private final Timer billingSyncLagTimer;
+    private final ConcurrentMap<String, PendingChange> pendingChanges = new ConcurrentHashMap<>();
+
+    @Value("${billing.sync.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${billing.sync.batch-size:200}")
+    private int batchSize;
+
+    @Value("${billing.sync.max-parallelism:8}")
+    private int maxParallelism;
+
+    @Value("${billing.sync.max-refresh-attempts:3}")
+    private int maxRefreshAttempts;
+
+    @Value("${billing.sync.incremental-update.enabled:true}")
+    private boolean incrementalUpdate;
 
     /**
-     * 요금 정보 변경 이벤트를 처리합니다.
-     * 이벤트 수신 시 해당 회선의 해당 월 요금 정보 캐시를 갱신합니다.
+     * 대기열 길이 게이지를 등록합니다.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("billing_sync_queue_depth", pendingChanges, Map::size)
+                .description("요금 변경 동기화 대기열 길이")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요금 정보 변경 이벤트를 대기열에 등록합니다.
+     * 같은 회선/월에 대해 아직 처리되지 않은 이벤트가 있으면 하나로 병합합니다.
      *
      * @param billingChangeEvent 요금 정보 변경 이벤트
+     * @throws BizException 대기열이 가득 찬 경우
      */
-    @Async
     public void processBillingChangeEvent(BillingChangeNotificationRequest billingChangeEvent) {
-        log.info("Processing billing change event for {}, {}", 
-                billingChangeEvent.getPhoneNumber(), billingChangeEvent.getBillingMonth());
-        
+        String phoneNumber = billingChangeEvent.getPhoneNumber();
+        String billingMonth = billingChangeEvent.getBillingMonth();
+        log.info("Queueing billing change event for {}, {}", phoneNumber, billingMonth);
+        billingSyncReceivedCounter.increment();
+
+        // 메모된 청구 상태를 바꿀 수 있는 알림이면 모든 인스턴스의 메모를 무효화
+        billingStatusMemo.onBillingChange(billingMonth);
+
+        String key = pendingKey(phoneNumber, billingMonth);
+        if (pendingChanges.size() >= queueCapacity && !pendingChanges.containsKey(key)) {
+            billingSyncRejectedCounter.increment();
+            log.warn("Billing sync queue is full ({}), rejecting event for {}", queueCapacity, key);
+            throw new BizException(ErrorCode.SERVICE_UNAVAILABLE, "요금 변경 동기화 대기열이 가득 찼습니다.");
+        }
+
+        pendingChanges.merge(key, new PendingChange(billingChangeEvent, System.nanoTime(), 0), (existing, incoming) -> {
+            billingSyncMergedCounter.increment();
+            return existing.mergeWith(incoming);
+        });
+    }
+
+    /**
+     * 대기 중인 변경 이벤트를 배치로 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${billing.sync.drain-interval-ms:500}")
+    public void drainPendingChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        List<PendingChange> batch = new ArrayList<>(Math.min(batchSize, pendingChanges.size()));
+        Iterator<String> keys = pendingChanges.keySet().iterator();
+        while (keys.hasNext() && batch.size() < batchSize) {
+            PendingChange change = pendingChanges.remove(keys.next());
+            if (change != null) {
+                batch.add(change);
+            }
+        }
+
+        log.debug("Draining {} billing change events ({} remaining)", batch.size(), pendingChanges.size());
+        refreshBatch(incrementalUpdate ? applyChanges(batch) : batch);
+    }
+
+    /**
+     * 변경 내역을 캐시된 요금 정보에 직접 반영합니다.
+     * 캐시에 없는 항목은 다음 조회 시 적재되므로 건너뛰고, 반영할 수 없는 항목만 재조회 대상으로 반환합니다.
+     *
+     * @param batch 처리할 변경 이벤트 목록
+     * @return KT 어댑터에서 재조회가 필요한 변경 이벤트 목록
+     */
+    private List<PendingChange> applyChanges(List<PendingChange> batch) {
+        List<PendingChange> refetch = new ArrayList<>();
+        for (PendingChange change : batch) {
+            BillingChangeResult result = isDeltaApplicable(change.event())
+                    ? cacheService.applyBillingChange(change.phoneNumber(), change.billingMonth(),
+                            change.event().getDetails())
+                    : BillingChangeResult.REFETCH_REQUIRED;
+
+            if (result == BillingChangeResult.REFETCH_REQUIRED) {
+                refetch.add(change);
+            } else {
+                billingSyncLagTimer.record(System.nanoTime() - change.firstReceivedNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (refetch.size() < batch.size()) {
+            log.info("Applied {} billing changes in place, {} require refetch",
+                    batch.size() - refetch.size(), refetch.size());
+        }
+        return refetch;
+    }
+
+    /**
+     * 변경 이벤트가 캐시 항목에 직접 반영 가능한 형태인지 확인합니다.
+     *
+     * @param event 변경 이벤트
+     * @return 항목별 변경 내역이 있는 UPDATE 이벤트인 경우 true
+     */
+    private static boolean isDeltaApplicable(BillingChangeNotificationRequest event) {
+        return (event.getChangeType() == null || "UPDATE".equalsIgnoreCase(event.getChangeType()))
+                && event.getDetails() != null && !event.getDetails().isEmpty();
+    }
+
+    /**
+     * 제한된 병렬도로 최신 요금 정보를 조회하고 한 번에 캐시에 기록합니다.
+     * 조회에 실패한 항목은 캐시를 건드리지 않고 재조회 대상으로 대기열에 다시 넣습니다.
+     *
+     * @param batch 처리할 변경 이벤트 목록
+     */
+    private void refreshBatch(List<PendingChange> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Semaphore permits = new Semaphore(maxParallelism);
+        List<CompletableFuture<BillingInfoResponseDTO>> futures = new ArrayList<>(batch.size());
+        for (PendingChange change : batch) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetchWithPermit(change, permits), billingLookupExecutor));
+        }
+
+        List<BillingInfoResponseDTO> refreshed = new ArrayList<>(batch.size());
+        List<PendingChange> succeeded = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingChange change = batch.get(i);
+            BillingInfoResponseDTO billingInfo = futures.get(i).join();
+            if (billingInfo != null) {
+                refreshed.add(billingInfo);
+                succeeded.add(change);
+            } else {
+                requeueFailedRefresh(change);
+            }
+        }
+
+        if (!refreshed.isEmpty()) {
+            cacheService.cacheBillingInfoBatch(refreshed);
+        }
+
+        long now = System.nanoTime();
+        for (PendingChange change : succeeded) {
+            billingSyncLagTimer.record(now - change.firstReceivedNanos(), TimeUnit.NANOSECONDS);
+        }
+        log.info("Synchronized {} billing changes ({} via batch write, {} failed)",
+                batch.size(), refreshed.size(), batch.size() - refreshed.size());
+    }
+
+    /**
+     * 재조회에 실패한 변경 이벤트를 다음 배치에서 다시 조회하도록 대기열에 넣습니다.
+     * 그 사이 같은 회선/월의 이벤트가 들어왔으면 병합하며, 최대 시도 횟수를 넘기면 버립니다.
+     * 기존 캐시 항목은 만료될 때까지 그대로 사용됩니다.
+     *
+     * @param change 재조회에 실패한 변경 이벤트
+     */
+    private void requeueFailedRefresh(PendingChange change) {
+        int attempts = change.failedAttempts() + 1;
+        if (attempts >= maxRefreshAttempts) {
+            billingSyncDroppedCounter.increment();
+            log.warn("Dropping billing change for {}, {} after {} failed refresh attempts",
+                    change.phoneNumber(), change.billingMonth(), attempts);
+            return;
+        }
+
+        pendingChanges.merge(pendingKey(change.phoneNumber(), change.billingMonth()), change.forRefetch(attempts),
+                (incoming, failed) -> failed.mergeWith(incoming));
+    }
+
+    private static String pendingKey(String phoneNumber, String billingMonth) {
+        return phoneNumber + ":" + billingMonth;
+    }
+
+    /**
+     * 병렬도 제한 안에서 KT 어댑터로부터 요금 정보를 조회합니다.
+     *
+     * @param change 변경 이벤트
+     * @param permits 병렬도 제한 세마포어
+     * @return 캐시에 기록할 요금 정보, 조회 실패 시 null
+     */
+    private BillingInfoResponseDTO fetchWithPermit(PendingChange change, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
         try {
-            cacheService.updateCache(billingChangeEvent.getPhoneNumber(), billingChangeEvent.getBillingMonth());
-            log.info("Successfully updated cache for {}, {}", 
-                    billingChangeEvent.getPhoneNumber(), billingChangeEvent.getBillingMonth());
+            ktSystemRequestCounter.increment();
+            BillingInfoResponseDTO billingInfo = ktAdapter.getBillingInfo(change.phoneNumber(), change.billingMonth());
+            if (billingInfo == null || billingInfo.getDetails() == null || billingInfo.getTotalFee() == null) {
+                log.warn("Could not refresh billing info from KT adapter: {}, {}",
+                        change.phoneNumber(), change.billingMonth());
+                return null;
+            }
+            billingInfo.setPhoneNumber(change.phoneNumber());
+            billingInfo.setBillingMonth(change.billingMonth());
+            return billingInfo;
         } catch (Exception e) {
-            log.error("Failed to update cache for {}, {}: {}", 
-                    billingChangeEvent.getPhoneNumber(), billingChangeEvent.getBillingMonth(), e.getMessage(), e);
+            log.error("Failed to refresh billing info for {}, {}: {}",
+                    change.phoneNumber(), change.billingMonth(), e.getMessage());
+            return null;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 대기열에 병합된 변경 이벤트입니다.
+     *
+     * @param event 가장 최근 이벤트 (변경 상세는 항목 코드 기준으로 누적, 재조회가 필요하면 null)
+     * @param firstReceivedNanos 최초 수신 시각
+     * @param failedAttempts 재조회에 실패한 횟수
+     */
+    private record PendingChange(BillingChangeNotificationRequest event, long firstReceivedNanos,
+                                 int failedAttempts) {
+
+        String phoneNumber() {
+            return event.getPhoneNumber();
+        }
+
+        String billingMonth() {
+            return event.getBillingMonth();
+        }
+
+        /**
+         * 이후에 도착한 이벤트와 병합합니다.
+         * 양쪽 모두 항목별 변경 내역이 있는 UPDATE 이벤트인 경우에만 항목 코드 기준으로 합치고
+         * (같은 항목 코드의 변경은 나중 이벤트의 값으로 덮어씀),
+         * 한쪽이라도 변경 내역이 없거나 변경 유형이 다르면 변경 내역을 비워 재조회하도록 합니다.
+         *
+         * @param incoming 이후에 도착한 이벤트
+         * @return 병합된 이벤트
+         */
+        PendingChange mergeWith(PendingChange incoming) {
+            List<BillingChangeNotificationRequest.BillingChangeDetail> mergedDetails = null;
+            if (isDeltaApplicable(event) && isDeltaApplicable(incoming.event())) {
+                Map<String, BillingChangeNotificationRequest.BillingChangeDetail> details = new LinkedHashMap<>();
+                event.getDetails().forEach(detail -> details.put(detail.getItemCode(), detail));
+                incoming.event().getDetails().forEach(detail -> details.put(detail.getItemCode(), detail));
+                mergedDetails = new ArrayList<>(details.values());
+            }
+
+            BillingChangeNotificationRequest merged = BillingChangeNotificationRequest.builder()
+                    .phoneNumber(event.getPhoneNumber())
+                    .billingMonth(event.getBillingMonth())
+                    .changeType(Objects.requireNonNullElse(incoming.event().getChangeType(), event.getChangeType()))
+                    .details(mergedDetails)
+                    .build();
+            return new PendingChange(merged, firstReceivedNanos, failedAttempts);
+        }
+
+        /**
+         * 변경 내역을 비워 다음 처리 시 반드시 재조회하도록 한 이벤트를 반환합니다.
+         *
+         * @param attempts 재조회에 실패한 횟수
+         * @return 재조회 대상 이벤트
+         */
+        PendingChange forRefetch(int attempts) {
+            BillingChangeNotificationRequest refetch = BillingChangeNotificationRequest.builder()
+                    .phoneNumber(event.getPhoneNumber())
+                    .billingMonth(event.getBillingMonth())
+                    .changeType(event.getChangeType())
+                    .build();
+            return new PendingChange(refetch, firstReceivedNanos, attempts);
         }
     }
 }
@@ -0,0 +1,218 @@
+package com.ktds.mvne.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(Caffeine)과 Redis 2단계로 고객 정보를 캐싱하는 공통 캐시입니다.
+ *
+ * <p>요금조회 서비스와 상품변경 서비스가 같은 Redis 키({@code customer:profile:{phone}})를 JSON으로 공유하므로
+ * 한 서비스에서 조회한 고객 정보를 다른 서비스에서도 재사용합니다.
+ * 상품 변경이 완료되면 {@link #evict(String)}로 Redis 항목을 삭제하고
+ * pub/sub으로 모든 인스턴스의 로컬 캐시를 무효화합니다.
+ * 삭제 시 짧은 TTL의 삭제 표시를 함께 남기고, 표시가 있는 동안에는 저장하지 않으므로
+ * 변경 전에 KOS에서 조회를 시작한 요청이 이전 고객 정보를 다시 저장하지 못합니다.</p>
+ *
+ * <p>서비스마다 고객 정보 DTO가 다르므로 빈은 각 서비스의 설정 클래스에서 생성합니다.</p>
+ *
+ * @param <T> 고객 정보 DTO 타입
+ */
+@Slf4j
+public class CustomerProfileCache<T> implements MessageListener {
+
+    private static final String KEY_PREFIX = "customer:profile:";
+    private static final String TOMBSTONE_KEY_PREFIX = "customer:profile:evicted:";
+
+    private static final DefaultRedisScript<Long> WRITE_UNLESS_EVICTED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final Predicate<T> cacheable;
+    private final Duration redisTtl;
+    private final Duration tombstoneTtl;
+    private final String invalidationChannel;
+    private final Cache<String, T> localCache;
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    /**
+     * 고객 정보 캐시를 생성하고 무효화 채널을 구독합니다.
+     *
+     * @param redisTemplate Redis 접근용 템플릿
+     * @param listenerContainer 무효화 메시지 수신 컨테이너
+     * @param objectMapper JSON 직렬화에 사용할 ObjectMapper
+     * @param meterRegistry 메트릭 레지스트리
+     * @param type 고객 정보 DTO 타입
+     * @param cacheable 캐시에 저장할 응답인지 판단하는 조건 (기본 응답 등은 제외)
+     * @param properties 캐시 설정
+     */
+    public CustomerProfileCache(StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                Class<T> type,
+                                Predicate<T> cacheable,
+                                Properties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.type = type;
+        this.cacheable = cacheable;
+        this.redisTtl = properties.redisTtl();
+        this.tombstoneTtl = properties.tombstoneTtl();
+        this.invalidationChannel = properties.invalidationChannel();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.localMaxSize())
+                .expireAfterWrite(properties.localTtl())
+                .build();
+        this.localHitCounter = Counter.builder("customer_profile_cache_total")
+                .description("고객 정보 캐시 조회 결과")
+                .tag("result", "l1_hit")
+                .register(meterRegistry);
+        this.redisHitCounter = Counter.builder("customer_profile_cache_total")
+                .description("고객 정보 캐시 조회 결과")
+                .tag("result", "l2_hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("customer_profile_cache_total")
+                .description("고객 정보 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+        log.info("Customer profile cache initialized - type: {}, localMaxSize: {}, localTtl: {}, redisTtl: {}",
+                type.getSimpleName(), properties.localMaxSize(), properties.localTtl(), redisTtl);
+    }
+
+    /**
+     * 로컬 캐시, Redis 순으로 고객 정보를 조회하고, 없으면 loader로 조회한 결과를 두 캐시에 저장합니다.
+     * 조회 중에 삭제된 회선이면 결과를 반환만 하고 저장하지 않습니다.
+     * Redis 오류가 발생해도 loader 조회로 계속 진행합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param loader 캐시에 없을 때 고객 정보를 조회하는 함수
+     * @return 고객 정보
+     */
+    public T get(String phoneNumber, Supplier<T> loader) {
+        String key = KEY_PREFIX + phoneNumber;
+
+        T localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHitCounter.increment();
+            return localValue;
+        }
+
+        T redisValue = readRedis(key);
+        if (redisValue != null) {
+            redisHitCounter.increment();
+            localCache.put(key, redisValue);
+            return redisValue;
+        }
+
+        missCounter.increment();
+        T loaded = loader.get();
+        if (loaded != null && cacheable.test(loaded) && writeRedis(phoneNumber, loaded)) {
+            localCache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 고객 정보를 Redis에서 삭제하고 모든 인스턴스의 로컬 캐시를 무효화합니다.
+     * 삭제 표시를 먼저 남겨 그 이전에 조회된 고객 정보가 다시 저장되지 않도록 합니다.
+     *
+     * @param phoneNumber 회선 번호
+     */
+    public void evict(String phoneNumber) {
+        String key = KEY_PREFIX + phoneNumber;
+        localCache.invalidate(key);
+        try {
+            redisTemplate.opsForValue().set(TOMBSTONE_KEY_PREFIX + phoneNumber, "1", tombstoneTtl);
+            redisTemplate.delete(key);
+            redisTemplate.convertAndSend(invalidationChannel, key);
+            log.debug("Evicted customer profile: {}", key);
+        } catch (Exception e) {
+            // Redis 항목은 TTL로 만료되므로 서비스는 계속 진행
+            log.error("Failed to evict customer profile {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지를 받아 로컬 캐시에서 제거합니다.
+     *
+     * @param message 무효화할 캐시 키
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        localCache.invalidate(key);
+    }
+
+    private T readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.error("Failed to read customer profile {} from Redis: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 삭제 표시가 없을 때만 고객 정보를 Redis에 저장합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param value 고객 정보
+     * @return 삭제 표시가 있어 저장하지 않았으면 false (Redis 오류 시에는 true)
+     */
+    private boolean writeRedis(String phoneNumber, T value) {
+        String key = KEY_PREFIX + phoneNumber;
+        try {
+            Long written = redisTemplate.execute(WRITE_UNLESS_EVICTED_SCRIPT,
+                    List.of(key, TOMBSTONE_KEY_PREFIX + phoneNumber),
+                    objectMapper.writeValueAsString(value), String.valueOf(redisTtl.toMillis()));
+            if (written != null && written == 0) {
+                log.debug("Skipped caching customer profile {} evicted during load", key);
+                return false;
+            }
+        } catch (Exception e) {
+            log.error("Failed to write customer profile {} to Redis: {}", key, e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 고객 정보 캐시 설정입니다.
+     *
+     * @param localMaxSize 로컬 캐시 최대 항목 수
+     * @param localTtl 로컬 캐시 유지 시간
+     * @param redisTtl Redis 캐시 유지 시간
+     * @param invalidationChannel 로컬 캐시 무효화 pub/sub 채널
+     * @param tombstoneTtl 삭제 후 이전 고객 정보 저장을 막는 기간
+     */
+    public record Properties(long localMaxSize, Duration localTtl, Duration redisTtl, String invalidationChannel,
+                             Duration tombstoneTtl) {
+    }
+}
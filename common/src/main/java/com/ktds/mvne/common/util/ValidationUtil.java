@@ -12,6 +12,7 @@ public class ValidationUtil {
     private static final Pattern EMAIL_PATTERN = 
             Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
     private static final Pattern PRODUCT_CODE_PATTERN = Pattern.compile("^[A-Z0-9_]{3,20}$");
+    private static final Pattern BILLING_MONTH_PATTERN = Pattern.compile("^(20\\d{2})(0[1-9]|1[0-2])$");
 
 
     /**
@@ -52,4 +53,17 @@ public class ValidationUtil {
         }
         return PRODUCT_CODE_PATTERN.matcher(productCode).matches();
     }
+
+    /**
+     * 청구 년월(YYYYMM 형식)의 유효성을 검사합니다.
+     *
+     * @param billingMonth 검사할 청구 년월
+     * @return 유효한 경우 true, 그렇지 않으면 false
+     */
+    public static boolean validateBillingMonth(String billingMonth) {
+        if (billingMonth == null) {
+            return false;
+        }
+        return BILLING_MONTH_PATTERN.matcher(billingMonth).matches();
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 /**
  * KT 영업시스템 클라이언트 인터페이스
@@ -19,5 +20,56 @@ public interface KOSClient {
      * @return SOAP XML 응답 문자열
      */
     String sendRequest(String requestXml, String endpoint);
+
+    /**
+     * KT 영업시스템에 SOAP 요청을 비동기로 전송합니다.
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     *
+     * @param requestXml SOAP XML 요청 문자열
+     * @param endpoint 요청할 엔드포인트
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    Mono<String> sendRequestReactive(String requestXml, String endpoint);
+
+    /**
+     * 당월 청구 상태를 조회합니다.
+     * 조회성 요청이므로 SOAP 요청 본문 없이 파라미터를 그대로 전달합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    Mono<String> getBillingStatus(String phoneNumber);
+
+    /**
+     * 요금 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식), null이면 KOS 기본값 사용
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    Mono<String> getBillingInfo(String phoneNumber, String billingMonth);
+
+    /**
+     * 고객 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    Mono<String> getCustomerInfo(String phoneNumber);
+
+    /**
+     * 상품 정보를 조회합니다.
+     *
+     * @param productCode 상품 코드
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    Mono<String> getProductInfo(String productCode);
+
+    /**
+     * 판매 중인 상품 목록을 조회합니다.
+     *
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    Mono<String> getProductList();
 }
 
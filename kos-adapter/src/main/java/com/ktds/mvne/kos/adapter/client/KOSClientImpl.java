@@ -10,8 +10,10 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,6 +24,10 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 @Slf4j
 public class KOSClientImpl implements KOSClient {
+    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("<phoneNumber>(\\d+)</phoneNumber>");
+    private static final Pattern BILLING_MONTH_PATTERN = Pattern.compile("<billingMonth>(\\d+)</billingMonth>");
+    private static final Pattern PRODUCT_CODE_PATTERN = Pattern.compile("<productCode>([^<]+)</productCode>");
+
     private final WebClient webClient;
     private final Timer kosClientOperationTimer;
     private final Counter kosRequestCounter;
@@ -39,150 +45,160 @@ public class KOSClientImpl implements KOSClient {
 
     @Override
     public String sendRequest(String requestXml, String endpoint) {
-        String baseUrl = useRealKos ? realBaseUrl : mockBaseUrl;
-        String contextPath = useRealKos ? "/real/billings/" : "/mock/billings/";
-        String fullEndpoint = contextPath + endpoint;
+        return sendRequestReactive(requestXml, endpoint).block();
+    }
 
-        log.debug("Sending request to KOS: {}{}", baseUrl, fullEndpoint);
+    @Override
+    public Mono<String> sendRequestReactive(String requestXml, String endpoint) {
         log.trace("Request XML: {}", requestXml);
-        kosRequestCounter.increment();
-
-        // 타이머 시작
-        Timer.Sample sample = Timer.start();
-
-        try {
-            // XML 요청을 쿼리 파라미터에서 추출할 주요 정보로 변환
-            String phoneNumber = extractPhoneNumber(requestXml);
-            String billingMonth = extractBillingMonth(requestXml);
-            String productCode = extractProductCode(requestXml);
-            String changeReason = extractChangeReason(requestXml);
-
-            String response;
-
-            // 엔드포인트에 따라 다른 HTTP 메소드 사용
-            if (endpoint.equals("billing-status")) {
-                URI uri = UriComponentsBuilder.fromHttpUrl(ensureHttpUrl(baseUrl) + contextPath + "billing-status")
-                        .queryParam("phoneNumber", phoneNumber)
-                        .build()
-                        .toUri();
-
-                log.debug("Sending GET request to: {}", uri);
-                response = webClient.get()
-                        .uri(uri)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .doOnError(e -> {
-                            log.error("Error during GET request: {}", e.getMessage(), e);
-                            kosErrorCounter.increment();
-                        })
-                        .block();
-            } else if (endpoint.equals("info")) {
-                UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(ensureHttpUrl(baseUrl) + contextPath + "info")
-                        .queryParam("phoneNumber", phoneNumber);
-
-                if (billingMonth != null && !billingMonth.isEmpty()) {
-                    uriBuilder.queryParam("billingMonth", billingMonth);
-                }
-
-                URI uri = uriBuilder.build().toUri();
-
-                log.debug("Sending GET request to: {}", uri);
-                response = webClient.get()
-                        .uri(uri)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .doOnError(e -> {
-                            log.error("Error during GET request: {}", e.getMessage(), e);
-                            kosErrorCounter.increment();
-                        })
-                        .block();
-            } else if (endpoint.equals("customer-info")) {
-                URI uri = UriComponentsBuilder.fromHttpUrl(ensureHttpUrl(baseUrl) + contextPath + "customer-info")
-                        .queryParam("phoneNumber", phoneNumber)
-                        .build()
-                        .toUri();
-
-                log.debug("Sending GET request to: {}", uri);
-                response = webClient.get()
-                        .uri(uri)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .doOnError(e -> {
-                            log.error("Error during GET request: {}", e.getMessage(), e);
-                            kosErrorCounter.increment();
-                        })
-                        .block();
-            } else if (endpoint.equals("product-info")) {
-                URI uri = UriComponentsBuilder.fromHttpUrl(ensureHttpUrl(baseUrl) + contextPath + "product-info")
-                        .queryParam("productCode", productCode)
-                        .build()
-                        .toUri();
-
-                log.debug("Sending GET request to: {}", uri);
-                response = webClient.get()
-                        .uri(uri)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .doOnError(e -> {
-                            log.error("Error during GET request: {}", e.getMessage(), e);
-                            kosErrorCounter.increment();
-                        })
-                        .block();
-            } else if (endpoint.equals("change")) {
-                // 상품 변경 요청의 경우 쿼리 파라미터 대신 Body만 사용
-                URI uri = UriComponentsBuilder.fromHttpUrl(ensureHttpUrl(baseUrl) + contextPath + "change")
-                        .build()
-                        .toUri();
-
-                log.debug("Sending POST request to: {}", uri);
-                response = webClient.post()
-                        .uri(uri)
-                        .contentType(MediaType.APPLICATION_XML)
-                        .bodyValue(requestXml)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .doOnError(e -> {
-                            log.error("Error during POST request: {}", e.getMessage(), e);
-                            kosErrorCounter.increment();
-                        })
-                        .block();
-            } else {
-                // 다른 엔드포인트는 POST로 처리
-                URI uri = UriComponentsBuilder.fromHttpUrl(ensureHttpUrl(baseUrl) + fullEndpoint)
-                        .build()
-                        .toUri();
-
-                log.debug("Sending POST request to: {}", uri);
-                response = webClient.post()
-                        .uri(uri)
-                        .contentType(MediaType.APPLICATION_XML)
-                        .bodyValue(requestXml)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .doOnError(e -> {
-                            log.error("Error during POST request: {}", e.getMessage(), e);
-                            kosErrorCounter.increment();
-                        })
-                        .block();
+
+        // 조회성 엔드포인트는 하위 호환을 위해 XML에서 파라미터를 추출해 타입 지정 경로로 위임
+        switch (endpoint) {
+            case "billing-status":
+                return getBillingStatus(extractPhoneNumber(requestXml));
+            case "info":
+                return getBillingInfo(extractPhoneNumber(requestXml), extractBillingMonth(requestXml));
+            case "customer-info":
+                return getCustomerInfo(extractPhoneNumber(requestXml));
+            case "product-info":
+                return getProductInfo(extractProductCode(requestXml));
+            default:
+                // 상품 변경 등 나머지 엔드포인트는 XML Body를 POST로 전송
+                return execute(endpoint, () -> post(buildUri(endpoint).build().toUri(), requestXml));
+        }
+    }
+
+    @Override
+    public Mono<String> getBillingStatus(String phoneNumber) {
+        return execute("billing-status", () -> get(buildUri("billing-status")
+                .queryParam("phoneNumber", phoneNumber)
+                .build()
+                .toUri()));
+    }
+
+    @Override
+    public Mono<String> getBillingInfo(String phoneNumber, String billingMonth) {
+        return execute("info", () -> {
+            UriComponentsBuilder uriBuilder = buildUri("info")
+                    .queryParam("phoneNumber", phoneNumber);
+
+            if (billingMonth != null && !billingMonth.isEmpty()) {
+                uriBuilder.queryParam("billingMonth", billingMonth);
             }
+            return get(uriBuilder.build().toUri());
+        });
+    }
 
-            log.debug("Received response from KOS: length={}", response != null ? response.length() : 0);
-            log.trace("Response: {}", response);
+    @Override
+    public Mono<String> getCustomerInfo(String phoneNumber) {
+        return execute("customer-info", () -> get(buildUri("customer-info")
+                .queryParam("phoneNumber", phoneNumber)
+                .build()
+                .toUri()));
+    }
 
-            // 타이머 종료 및 성공 카운터 증가
-            sample.stop(kosClientOperationTimer);
-            kosSuccessCounter.increment();
+    @Override
+    public Mono<String> getProductInfo(String productCode) {
+        return execute("product-info", () -> get(buildUri("product-info")
+                .queryParam("productCode", productCode)
+                .build()
+                .toUri()));
+    }
 
-            return response;
-        } catch (Exception e) {
-            log.error("Error sending request to KOS: {}", e.getMessage(), e);
+    @Override
+    public Mono<String> getProductList() {
+        return execute("products", () -> get(buildUri("products").build().toUri()));
+    }
 
-            // 타이머 종료 및 에러 카운터 증가
-            sample.stop(kosClientOperationTimer);
-            kosErrorCounter.increment();
+    /**
+     * KOS 요청에 공통 로깅과 메트릭을 적용합니다.
+     * 요청은 구독 시점에 전송되며 호출 스레드를 블로킹하지 않습니다.
+     *
+     * @param endpoint 요청할 엔드포인트
+     * @param request 실제 HTTP 요청을 구성하는 함수
+     * @return SOAP XML 응답 문자열을 발행하는 Mono
+     */
+    private Mono<String> execute(String endpoint, Supplier<Mono<String>> request) {
+        return Mono.defer(() -> {
+            String baseUrl = useRealKos ? realBaseUrl : mockBaseUrl;
+            log.debug("Sending request to KOS: {}{}{}", baseUrl, getContextPath(), endpoint);
+            kosRequestCounter.increment();
+
+            // 타이머 시작
+            Timer.Sample sample = Timer.start();
+
+            return request.get()
+                    .doOnSuccess(response -> {
+                        log.debug("Received response from KOS: length={}", response != null ? response.length() : 0);
+                        log.trace("Response: {}", response);
+
+                        // 타이머 종료 및 성공 카운터 증가
+                        sample.stop(kosClientOperationTimer);
+                        kosSuccessCounter.increment();
+                    })
+                    .onErrorMap(e -> {
+                        log.error("Error sending request to KOS: {}", e.getMessage(), e);
+
+                        // 타이머 종료 및 에러 카운터 증가
+                        sample.stop(kosClientOperationTimer);
+                        kosErrorCounter.increment();
+
+                        return new RuntimeException("KT 영업시스템 요청 실패: " + e.getMessage(), e);
+                    });
+        });
+    }
 
-            throw new RuntimeException("KT 영업시스템 요청 실패: " + e.getMessage(), e);
-        }
+    /**
+     * 엔드포인트의 URI 빌더를 생성합니다.
+     *
+     * @param endpoint 요청할 엔드포인트
+     * @return URI 빌더
+     */
+    private UriComponentsBuilder buildUri(String endpoint) {
+        String baseUrl = ensureHttpUrl(useRealKos ? realBaseUrl : mockBaseUrl);
+        return UriComponentsBuilder.fromHttpUrl(baseUrl + getContextPath() + endpoint);
+    }
+
+    /**
+     * GET 요청을 구성합니다.
+     *
+     * @param uri 요청 URI
+     * @return 응답 문자열을 발행하는 Mono
+     */
+    private Mono<String> get(URI uri) {
+        log.debug("Sending GET request to: {}", uri);
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnError(e -> log.error("Error during GET request: {}", e.getMessage(), e));
+    }
+
+    /**
+     * XML 본문을 포함한 POST 요청을 구성합니다.
+     *
+     * @param uri 요청 URI
+     * @param requestXml SOAP XML 요청 문자열
+     * @return 응답 문자열을 발행하는 Mono
+     */
+    private Mono<String> post(URI uri, String requestXml) {
+        log.debug("Sending POST request to: {}", uri);
+        return webClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_XML)
+                .bodyValue(requestXml)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnError(e -> log.error("Error during POST request: {}", e.getMessage(), e));
+    }
+
+    /**
+     * 사용 중인 KOS 환경에 맞는 컨텍스트 경로를 반환합니다.
+     *
+     * @return 컨텍스트 경로
+     */
+    private String getContextPath() {
+        return useRealKos ? "/real/billings/" : "/mock/billings/";
     }
 
     /**
@@ -206,13 +222,12 @@ public class KOSClientImpl implements KOSClient {
     }
 
     // XML에서 전화번호 추출 - 정규식 사용
-    private String extractPhoneNumber(String requestXml) {
+    static String extractPhoneNumber(String requestXml) {
         if (requestXml == null) {
             return "01012345678"; // 기본값
         }
 
-        Pattern pattern = Pattern.compile("<phoneNumber>(\\d+)</phoneNumber>");
-        Matcher matcher = pattern.matcher(requestXml);
+        Matcher matcher = PHONE_NUMBER_PATTERN.matcher(requestXml);
 
         if (matcher.find()) {
             return matcher.group(1);
@@ -223,13 +238,12 @@ public class KOSClientImpl implements KOSClient {
     }
 
     // XML에서 청구 년월 추출 - 정규식 사용
-    private String extractBillingMonth(String requestXml) {
+    static String extractBillingMonth(String requestXml) {
         if (requestXml == null) {
             return null;
         }
 
-        Pattern pattern = Pattern.compile("<billingMonth>(\\d+)</billingMonth>");
-        Matcher matcher = pattern.matcher(requestXml);
+        Matcher matcher = BILLING_MONTH_PATTERN.matcher(requestXml);
 
         if (matcher.find()) {
             return matcher.group(1);
@@ -239,29 +253,12 @@ public class KOSClientImpl implements KOSClient {
     }
 
     // XML에서 상품 코드 추출 - 정규식 사용
-    private String extractProductCode(String requestXml) {
-        if (requestXml == null) {
-            return null;
-        }
-
-        Pattern pattern = Pattern.compile("<productCode>([^<]+)</productCode>");
-        Matcher matcher = pattern.matcher(requestXml);
-
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-
-        return null;
-    }
-
-    // XML에서 변경 사유 추출 - 정규식 사용
-    private String extractChangeReason(String requestXml) {
+    static String extractProductCode(String requestXml) {
         if (requestXml == null) {
             return null;
         }
 
-        Pattern pattern = Pattern.compile("<changeReason>([^<]+)</changeReason>");
-        Matcher matcher = pattern.matcher(requestXml);
+        Matcher matcher = PRODUCT_CODE_PATTERN.matcher(requestXml);
 
         if (matcher.find()) {
             return matcher.group(1);
@@ -269,4 +266,4 @@ public class KOSClientImpl implements KOSClient {
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,14 @@ package com.ktds.mvne.kos.adapter.config;
 import org.springframework.beans.factory.annotation.Value; // lombok.Value 대신 spring의 Value로 변경
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,6 +22,15 @@ public class WebClientConfig implements WebMvcConfigurer {
     @Value("${server.allowed-origins:http://localhost:3000}") // 기본값 추가
     private String allowedOrigins;
 
+    @Value("${kos-client.pool.max-connections:1000}")
+    private int maxConnections;
+
+    @Value("${kos-client.pool.pending-acquire-max-count:5000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${kos-client.pool.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -26,8 +39,22 @@ public class WebClientConfig implements WebMvcConfigurer {
                 .allowedHeaders("*");
     }
 
+    /**
+     * KOS 호출용 WebClient를 생성합니다.
+     * 요청 스레드를 점유하지 않도록 커넥션 풀 크기와 대기열 상한을 명시적으로 설정합니다.
+     *
+     * @return WebClient
+     */
     @Bean
     public WebClient webClient() {
-        return WebClient.builder().build();
+        ConnectionProvider provider = ConnectionProvider.builder("kos-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .build();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .build();
     }
 }
\ No newline at end of file
@@ -12,6 +12,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * KT 영업시스템의 상품 관련 API를 제공하는 어댑터 컨트롤러 클래스입니다.
@@ -33,23 +36,24 @@ public class ProductAdapterController {
      */
     @GetMapping("/customers/{phoneNumber}")
     @Operation(summary = "고객 정보 조회", description = "고객의 회선 상태와 현재 사용 중인 상품 정보를 조회합니다.")
-    public ResponseEntity<CustomerInfoResponse> getCustomerInfo(
+    public Mono<ResponseEntity<CustomerInfoResponse>> getCustomerInfo(
             @Parameter(description = "회선 번호", example = "01012345678")
             @PathVariable("phoneNumber") String phoneNumber) {
         log.debug("getCustomerInfo request for phoneNumber: {}", phoneNumber);
-        CustomerInfoResponse response = productAdapterService.getCustomerInfo(phoneNumber);
-
-        // response 객체 로깅 - 문제 진단용
-        log.debug("CustomerInfo response before returning: {}", response);
+        return productAdapterService.getCustomerInfoReactive(phoneNumber)
+                .map(response -> {
+                    // response 객체 로깅 - 문제 진단용
+                    log.debug("CustomerInfo response before returning: {}", response);
 
-        // phoneNumber가 null인 경우 요청 값으로 설정
-        if (response.getPhoneNumber() == null || response.getPhoneNumber().isEmpty()) {
-            log.warn("응답의 phoneNumber가 null입니다. 요청값으로 설정합니다: {}", phoneNumber);
-            response.setPhoneNumber(phoneNumber);
-        }
+                    // phoneNumber가 null인 경우 요청 값으로 설정
+                    if (response.getPhoneNumber() == null || response.getPhoneNumber().isEmpty()) {
+                        log.warn("응답의 phoneNumber가 null입니다. 요청값으로 설정합니다: {}", phoneNumber);
+                        response.setPhoneNumber(phoneNumber);
+                    }
 
-        // ApiResponse.success()를 제거하고 response 객체를 직접 반환
-        return ResponseEntity.ok(response);
+                    // ApiResponse.success()를 제거하고 response 객체를 직접 반환
+                    return ResponseEntity.ok(response);
+                });
     }
 
     /**
@@ -60,20 +64,34 @@ public class ProductAdapterController {
      */
     @GetMapping("/products/{productCode}")
     @Operation(summary = "상품 정보 조회", description = "상품 정보를 조회합니다.")
-    public ResponseEntity<ProductDetail> getProductInfo(
+    public Mono<ResponseEntity<ProductDetail>> getProductInfo(
             @Parameter(description = "상품 코드", example = "5GX_STANDARD")
             @PathVariable("productCode") String productCode) {
         log.debug("getProductInfo request for productCode: {}", productCode);
-        ProductDetail response = productAdapterService.getProductInfo(productCode);
+        return productAdapterService.getProductInfoReactive(productCode)
+                .map(response -> {
+                    // productCode가 null인 경우 요청 값으로 설정
+                    if (response.getProductCode() == null || response.getProductCode().isEmpty()) {
+                        log.warn("응답의 productCode가 null입니다. 요청값으로 설정합니다: {}", productCode);
+                        response.setProductCode(productCode);
+                    }
 
-        // productCode가 null인 경우 요청 값으로 설정
-        if (response.getProductCode() == null || response.getProductCode().isEmpty()) {
-            log.warn("응답의 productCode가 null입니다. 요청값으로 설정합니다: {}", productCode);
-            response.setProductCode(productCode);
-        }
+                    // ApiResponse.success()를 제거하고 response 객체를 직접 반환
+                    return ResponseEntity.ok(response);
+                });
+    }
 
-        // ApiResponse.success()를 제거하고 response 객체를 직접 반환
-        return ResponseEntity.ok(response);
+    /**
+     * 판매 중인 상품 목록을 조회합니다.
+     *
+     * @return 상품 목록
+     */
+    @GetMapping("/products")
+    @Operation(summary = "상품 목록 조회", description = "현재 판매 중인 전체 상품 목록을 조회합니다.")
+    public Mono<ResponseEntity<List<ProductDetail>>> getProductList() {
+        log.debug("getProductList request");
+        return productAdapterService.getProductListReactive()
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -86,7 +104,7 @@ public class ProductAdapterController {
      */
     @PostMapping("/products/change")
     @Operation(summary = "상품 변경", description = "현재 사용 중인 상품을 다른 상품으로 변경합니다.")
-    public ResponseEntity<ProductChangeResponse> changeProduct(
+    public Mono<ResponseEntity<ProductChangeResponse>> changeProduct(
             @Parameter(description = "회선 번호", example = "01012345678")
             @RequestParam("phoneNumber") String phoneNumber,
             @Parameter(description = "변경하려는 상품 코드", example = "5GX_PREMIUM")
@@ -97,9 +115,8 @@ public class ProductAdapterController {
         System.out.println("======================="+phoneNumber+productCode+changeReason);
         log.debug("changeProduct request for phoneNumber: {}, productCode: {}, changeReason: {}",
                 phoneNumber, productCode, changeReason);
-        ProductChangeResponse response = productAdapterService.changeProduct(phoneNumber, productCode, changeReason);
-
         // ApiResponse.success()를 제거하고 response 객체를 직접 반환
-        return ResponseEntity.ok(response);
+        return productAdapterService.changeProductReactive(phoneNumber, productCode, changeReason)
+                .map(ResponseEntity::ok);
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.ktds.mvne.kos.adapter.dto;
+
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 목록 응답 DTO입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 목록 응답")
+public class ProductListResponse {
+
+    @Schema(description = "판매 중인 상품 목록")
+    @JacksonXmlElementWrapper(localName = "products")
+    @JacksonXmlProperty(localName = "product")
+    private List<ProductDetail> products;
+}
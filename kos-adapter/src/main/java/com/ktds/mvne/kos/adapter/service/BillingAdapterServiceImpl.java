@@ -9,11 +9,13 @@ import com.ktds.mvne.kos.adapter.dto.BillingInfoResponse;
 import com.ktds.mvne.kos.adapter.dto.BillingStatusResponse;
 import com.ktds.mvne.kos.adapter.util.XmlConverter;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 /**
  * KT 영업시스템의 요금 조회 관련 어댑터 서비스 구현체입니다.
@@ -37,25 +39,7 @@ public class BillingAdapterServiceImpl implements BillingAdapterService {
      */
     @Override
     public BillingStatusResponse checkBillingStatus(String phoneNumber) {
-        validatePhoneNumber(phoneNumber);
-
-        try {
-            String requestXml = xmlConverter.convertToSoapXml(
-                    new BillingStatusRequest(phoneNumber));
-
-            String responseXml = circuitBreaker.executeSupplier(() ->
-                    kosClient.sendRequest(requestXml, "billing-status"));
-
-            BillingStatusResponse response = xmlConverter.convertToJson(
-                    responseXml, BillingStatusResponse.class);
-
-            log.debug("BillingStatus response for {}: {}", phoneNumber, response);
-            return response;
-
-        } catch (Exception e) {
-            handleException(e, "청구 상태 확인 중 오류 발생", phoneNumber);
-            return null; // 도달하지 않음 (handleException에서 예외 발생)
-        }
+        return checkBillingStatusReactive(phoneNumber).block();
     }
 
     /**
@@ -67,26 +51,43 @@ public class BillingAdapterServiceImpl implements BillingAdapterService {
      */
     @Override
     public BillingInfoResponse getBillingInfo(String phoneNumber, String billingMonth) {
-        validatePhoneNumber(phoneNumber);
-        validateBillingMonth(billingMonth);
-
-        try {
-            String requestXml = xmlConverter.convertToSoapXml(
-                    new BillingInfoRequest(phoneNumber, billingMonth));
+        return getBillingInfoReactive(phoneNumber, billingMonth).block();
+    }
 
-            String responseXml = circuitBreaker.executeSupplier(() ->
-                    kosClient.sendRequest(requestXml, "info"));
+    /**
+     * 당월 청구 데이터 존재 여부를 비동기로 확인합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 청구 상태 정보를 발행하는 Mono
+     */
+    @Override
+    public Mono<BillingStatusResponse> checkBillingStatusReactive(String phoneNumber) {
+        validatePhoneNumber(phoneNumber);
 
-            BillingInfoResponse response = xmlConverter.convertToJson(
-                    responseXml, BillingInfoResponse.class);
+        return kosClient.getBillingStatus(phoneNumber)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .mapNotNull(responseXml -> xmlConverter.convertToJson(responseXml, BillingStatusResponse.class))
+                .doOnNext(response -> log.debug("BillingStatus response for {}: {}", phoneNumber, response))
+                .onErrorMap(e -> translateException(e, "청구 상태 확인 중 오류 발생", phoneNumber));
+    }
 
-            log.debug("BillingInfo response for {}, {}: {}", phoneNumber, billingMonth, response);
-            return response;
+    /**
+     * 요금 정보를 비동기로 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param billingMonth 청구 년월 (YYYYMM 형식)
+     * @return 요금 정보를 발행하는 Mono
+     */
+    @Override
+    public Mono<BillingInfoResponse> getBillingInfoReactive(String phoneNumber, String billingMonth) {
+        validatePhoneNumber(phoneNumber);
+        validateBillingMonth(billingMonth);
 
-        } catch (Exception e) {
-            handleException(e, "요금 정보 조회 중 오류 발생", phoneNumber);
-            return null; // 도달하지 않음 (handleException에서 예외 발생)
-        }
+        return kosClient.getBillingInfo(phoneNumber, billingMonth)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .mapNotNull(responseXml -> xmlConverter.convertToJson(responseXml, BillingInfoResponse.class))
+                .doOnNext(response -> log.debug("BillingInfo response for {}, {}: {}", phoneNumber, billingMonth, response))
+                .onErrorMap(e -> translateException(e, "요금 정보 조회 중 오류 발생", phoneNumber));
     }
 
     /**
@@ -124,38 +125,23 @@ public class BillingAdapterServiceImpl implements BillingAdapterService {
     }
 
     /**
-     * 예외를 처리합니다.
+     * 예외를 어댑터 표준 예외로 변환합니다.
      *
      * @param e 발생한 예외
      * @param message 오류 메시지
      * @param identifier 식별자 (전화번호 또는 상품 코드)
-     * @throws BizException 비즈니스 예외
-     * @throws ExternalSystemException 외부 시스템 예외
+     * @return BizException 또는 ExternalSystemException
      */
-    private void handleException(Exception e, String message, String identifier) {
+    private RuntimeException translateException(Throwable e, String message, String identifier) {
         log.error("{} (identifier: {}): {}", message, identifier, e.getMessage(), e);
 
         if (e instanceof BizException) {
-            throw (BizException) e;
+            return (BizException) e;
         } else if (e instanceof ExternalSystemException) {
-            throw (ExternalSystemException) e;
+            return (ExternalSystemException) e;
         } else {
-            throw new ExternalSystemException(message + ": " + e.getMessage(),
+            return new ExternalSystemException(message + ": " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR.value(), "KOS");
         }
     }
-
-    /**
-     * 청구 상태 확인 요청 DTO입니다.
-     * 어댑터 내부에서만 사용됩니다.
-     */
-    private record BillingStatusRequest(String phoneNumber) {
-    }
-
-    /**
-     * 요금 정보 조회 요청 DTO입니다.
-     * 어댑터 내부에서만 사용됩니다.
-     */
-    private record BillingInfoRequest(String phoneNumber, String billingMonth) {
-    }
-}
\ No newline at end of file
+}
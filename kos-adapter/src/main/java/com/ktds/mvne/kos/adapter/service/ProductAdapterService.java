@@ -3,6 +3,9 @@ package com.ktds.mvne.kos.adapter.service;
 import com.ktds.mvne.kos.adapter.dto.CustomerInfoResponse;
 import com.ktds.mvne.kos.adapter.dto.ProductChangeResponse;
 import com.ktds.mvne.kos.adapter.dto.ProductDetail;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * KT 영업시스템의 상품 관련 어댑터 서비스 인터페이스입니다.
@@ -34,4 +37,37 @@ public interface ProductAdapterService {
      * @return 상품 변경 결과
      */
     ProductChangeResponse changeProduct(String phoneNumber, String productCode, String changeReason);
+
+    /**
+     * 고객 정보를 비동기로 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 고객 정보를 발행하는 Mono
+     */
+    Mono<CustomerInfoResponse> getCustomerInfoReactive(String phoneNumber);
+
+    /**
+     * 상품 정보를 비동기로 조회합니다.
+     *
+     * @param productCode 상품 코드
+     * @return 상품 정보를 발행하는 Mono
+     */
+    Mono<ProductDetail> getProductInfoReactive(String productCode);
+
+    /**
+     * 판매 중인 상품 목록을 비동기로 조회합니다.
+     *
+     * @return 상품 목록을 발행하는 Mono
+     */
+    Mono<List<ProductDetail>> getProductListReactive();
+
+    /**
+     * 상품을 비동기로 변경합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param changeReason 변경 사유
+     * @return 상품 변경 결과를 발행하는 Mono
+     */
+    Mono<ProductChangeResponse> changeProductReactive(String phoneNumber, String productCode, String changeReason);
 }
@@ -9,13 +9,18 @@ import com.ktds.mvne.kos.adapter.client.KOSClient;
 import com.ktds.mvne.kos.adapter.dto.CustomerInfoResponse;
 import com.ktds.mvne.kos.adapter.dto.ProductChangeResponse;
 import com.ktds.mvne.kos.adapter.dto.ProductDetail;
+import com.ktds.mvne.kos.adapter.dto.ProductListResponse;
 import com.ktds.mvne.kos.adapter.util.XmlConverter;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * KT 영업시스템의 상품 관련 어댑터 서비스 구현체입니다.
@@ -39,25 +44,7 @@ public class ProductAdapterServiceImpl implements ProductAdapterService {
      */
     @Override
     public CustomerInfoResponse getCustomerInfo(String phoneNumber) {
-        validatePhoneNumber(phoneNumber);
-
-        try {
-            String requestXml = xmlConverter.convertToSoapXml(
-                    new CustomerInfoRequest(phoneNumber));
-
-            String responseXml = circuitBreaker.executeSupplier(() ->
-                    kosClient.sendRequest(requestXml, "customer-info"));
-
-            CustomerInfoResponse response = xmlConverter.convertToJson(responseXml, CustomerInfoResponse.class);
-            log.debug("CustomerInfo response after XML conversion: {}", response);
-
-            log.debug("CustomerInfo response for {}: {}", phoneNumber, response);
-            return response;
-
-        } catch (Exception e) {
-            handleException(e, "고객 정보 조회 중 오류 발생", phoneNumber);
-            return null; // 도달하지 않음 (handleException에서 예외 발생)
-        }
+        return getCustomerInfoReactive(phoneNumber).block();
     }
 
     /**
@@ -68,33 +55,7 @@ public class ProductAdapterServiceImpl implements ProductAdapterService {
      */
     @Override
     public ProductDetail getProductInfo(String productCode) {
-        validateProductCode(productCode);
-
-        try {
-            String requestXml = xmlConverter.convertToSoapXml(
-                    new ProductInfoRequest(productCode));
-
-            String responseXml = circuitBreaker.executeSupplier(() ->
-                    kosClient.sendRequest(requestXml, "product-info"));
-
-            ProductDetail response = xmlConverter.convertToJson(
-                    responseXml, ProductDetail.class);
-
-            // 수정: KOS Mock에서 반환한 상품 코드와 요청한 상품 코드가 다른 경우 처리
-            if (response != null && (response.getProductCode() == null ||
-                    !response.getProductCode().equals(productCode))) {
-                log.warn("응답의 상품 코드({})가 요청한 상품 코드({})와 다릅니다. 요청 값으로 설정합니다.",
-                        response.getProductCode(), productCode);
-                response.setProductCode(productCode);
-            }
-
-            log.debug("ProductInfo response for {}: {}", productCode, response);
-            return response;
-
-        } catch (Exception e) {
-            handleException(e, "상품 정보 조회 중 오류 발생", productCode);
-            return null; // 도달하지 않음 (handleException에서 예외 발생)
-        }
+        return getProductInfoReactive(productCode).block();
     }
 
     /**
@@ -107,32 +68,90 @@ public class ProductAdapterServiceImpl implements ProductAdapterService {
      */
     @Override
     public ProductChangeResponse changeProduct(String phoneNumber, String productCode, String changeReason) {
-        validatePhoneNumber(phoneNumber);
-        validateProductCode(productCode);
+        return changeProductReactive(phoneNumber, productCode, changeReason).block();
+    }
 
-        try {
+    /**
+     * 고객 정보를 비동기로 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 고객 정보를 발행하는 Mono
+     */
+    @Override
+    public Mono<CustomerInfoResponse> getCustomerInfoReactive(String phoneNumber) {
+        validatePhoneNumber(phoneNumber);
 
-            // ProductChangeRequest 객체에 파라미터 명확히 포함
-            String requestXml = xmlConverter.convertToSoapXml(
-                    new ProductChangeRequest(phoneNumber, productCode, changeReason));
+        return kosClient.getCustomerInfo(phoneNumber)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .mapNotNull(responseXml -> xmlConverter.convertToJson(responseXml, CustomerInfoResponse.class))
+                .doOnNext(response -> log.debug("CustomerInfo response for {}: {}", phoneNumber, response))
+                .onErrorMap(e -> translateException(e, "고객 정보 조회 중 오류 발생", phoneNumber));
+    }
 
-            // 로그 추가하여 XML 요청 내용 확인
-            log.debug("Product change request XML: {}", requestXml);
+    /**
+     * 상품 정보를 비동기로 조회합니다.
+     *
+     * @param productCode 상품 코드
+     * @return 상품 정보를 발행하는 Mono
+     */
+    @Override
+    public Mono<ProductDetail> getProductInfoReactive(String productCode) {
+        validateProductCode(productCode);
 
-            String responseXml = circuitBreaker.executeSupplier(() ->
-                    kosClient.sendRequest(requestXml, "change"));
+        return kosClient.getProductInfo(productCode)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .mapNotNull(responseXml -> xmlConverter.convertToJson(responseXml, ProductDetail.class))
+                .doOnNext(response -> {
+                    // 수정: KOS Mock에서 반환한 상품 코드와 요청한 상품 코드가 다른 경우 처리
+                    if (response.getProductCode() == null || !response.getProductCode().equals(productCode)) {
+                        log.warn("응답의 상품 코드({})가 요청한 상품 코드({})와 다릅니다. 요청 값으로 설정합니다.",
+                                response.getProductCode(), productCode);
+                        response.setProductCode(productCode);
+                    }
+                    log.debug("ProductInfo response for {}: {}", productCode, response);
+                })
+                .onErrorMap(e -> translateException(e, "상품 정보 조회 중 오류 발생", productCode));
+    }
 
-            ProductChangeResponse response = xmlConverter.convertToJson(
-                    responseXml, ProductChangeResponse.class);
+    /**
+     * 판매 중인 상품 목록을 비동기로 조회합니다.
+     *
+     * @return 상품 목록을 발행하는 Mono
+     */
+    @Override
+    public Mono<List<ProductDetail>> getProductListReactive() {
+        return kosClient.getProductList()
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .mapNotNull(responseXml -> xmlConverter.convertToJson(responseXml, ProductListResponse.class))
+                .map(response -> response.getProducts() != null ? response.getProducts() : List.<ProductDetail>of())
+                .doOnNext(products -> log.debug("ProductList response: {} products", products.size()))
+                .onErrorMap(e -> translateException(e, "상품 목록 조회 중 오류 발생", "products"));
+    }
 
-            log.debug("ProductChange response for {}, {}: {}",
-                    phoneNumber, productCode, response);
-            return response;
+    /**
+     * 상품을 비동기로 변경합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param changeReason 변경 사유
+     * @return 상품 변경 결과를 발행하는 Mono
+     */
+    @Override
+    public Mono<ProductChangeResponse> changeProductReactive(String phoneNumber, String productCode, String changeReason) {
+        validatePhoneNumber(phoneNumber);
+        validateProductCode(productCode);
 
-        } catch (Exception e) {
-            handleException(e, "상품 변경 중 오류 발생", phoneNumber);
-            return null; // 도달하지 않음 (handleException에서 예외 발생)
-        }
+        // ProductChangeRequest 객체에 파라미터 명확히 포함
+        return Mono.fromCallable(() -> xmlConverter.convertToSoapXml(
+                        new ProductChangeRequest(phoneNumber, productCode, changeReason)))
+                // 로그 추가하여 XML 요청 내용 확인
+                .doOnNext(requestXml -> log.debug("Product change request XML: {}", requestXml))
+                .flatMap(requestXml -> kosClient.sendRequestReactive(requestXml, "change")
+                        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker)))
+                .mapNotNull(responseXml -> xmlConverter.convertToJson(responseXml, ProductChangeResponse.class))
+                .doOnNext(response -> log.debug("ProductChange response for {}, {}: {}",
+                        phoneNumber, productCode, response))
+                .onErrorMap(e -> translateException(e, "상품 변경 중 오류 발생", phoneNumber));
     }
 
     /**
@@ -160,41 +179,26 @@ public class ProductAdapterServiceImpl implements ProductAdapterService {
     }
 
     /**
-     * 예외를 처리합니다.
+     * 예외를 어댑터 표준 예외로 변환합니다.
      *
      * @param e 발생한 예외
      * @param message 오류 메시지
      * @param identifier 식별자 (전화번호 또는 상품 코드)
-     * @throws BizException 비즈니스 예외
-     * @throws ExternalSystemException 외부 시스템 예외
+     * @return BizException 또는 ExternalSystemException
      */
-    private void handleException(Exception e, String message, String identifier) {
+    private RuntimeException translateException(Throwable e, String message, String identifier) {
         log.error("{} (identifier: {}): {}", message, identifier, e.getMessage(), e);
 
         if (e instanceof BizException) {
-            throw (BizException) e;
+            return (BizException) e;
         } else if (e instanceof ExternalSystemException) {
-            throw (ExternalSystemException) e;
+            return (ExternalSystemException) e;
         } else {
-            throw new ExternalSystemException(message + ": " + e.getMessage(),
+            return new ExternalSystemException(message + ": " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR.value(), "KOS");
         }
     }
 
-    /**
-     * 고객 정보 조회 요청 DTO입니다.
-     * 어댑터 내부에서만 사용됩니다.
-     */
-    private record CustomerInfoRequest(String phoneNumber) {
-    }
-
-    /**
-     * 상품 정보 조회 요청 DTO입니다.
-     * 어댑터 내부에서만 사용됩니다.
-     */
-    private record ProductInfoRequest(String productCode) {
-    }
-
     /**
      * 상품 변경 요청 DTO입니다.
      * 어댑터 내부에서만 사용됩니다.
@@ -1,17 +1,24 @@
 package com.ktds.mvne.kos.adapter.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.ktds.mvne.common.exception.BizException;
 import com.ktds.mvne.common.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.StringReader;
 import java.io.StringWriter;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
@@ -30,19 +37,53 @@ import org.xml.sax.InputSource;
 @Slf4j
 public class XmlConverter {
 
+    private static final String SOAP_ENVELOPE_PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\""
+            + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+            + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">"
+            + "<soap:Body>";
+    private static final String SOAP_ENVELOPE_SUFFIX = "</soap:Body></soap:Envelope>";
+
+    /**
+     * SOAP 변환 방식입니다.
+     * DOM은 기존 구현이며, STAX는 중간 문서를 만들지 않는 스트리밍 구현입니다.
+     */
+    public enum Mode {
+        DOM,
+        STAX
+    }
+
     private final ObjectMapper jsonMapper;
     private final XmlMapper xmlMapper;
+    private final ObjectWriter bodyWriter;
+    private final XMLInputFactory xmlInputFactory;
+    private final Mode mode;
 
     /**
      * XmlConverter 생성자입니다.
+     * 기본 변환 방식(DOM)을 사용합니다.
      */
     public XmlConverter() {
+        this(Mode.DOM);
+    }
+
+    /**
+     * 변환 방식을 지정하는 XmlConverter 생성자입니다.
+     *
+     * @param mode SOAP 변환 방식
+     */
+    @Autowired
+    public XmlConverter(@Value("${xml-converter.mode:DOM}") Mode mode) {
+        this.mode = mode;
         this.jsonMapper = new ObjectMapper()
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         this.xmlMapper = (XmlMapper) new XmlMapper()
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
                 .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
                 .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
+        this.bodyWriter = xmlMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.xmlInputFactory = xmlMapper.getFactory().getXMLInputFactory();
+        log.info("XmlConverter initialized with mode: {}", mode);
     }
 
     /**
@@ -53,6 +94,12 @@ public class XmlConverter {
      */
     public String convertToSoapXml(Object jsonRequest) {
         try {
+            if (mode == Mode.STAX) {
+                String soapXml = writeSoapEnvelope(jsonRequest);
+                log.debug("Created SOAP envelope: {}", soapXml);
+                return soapXml;
+            }
+
             // 1. JSON 객체를 XML로 변환
             String xmlBody = xmlMapper.writeValueAsString(jsonRequest);
             log.debug("Converted JSON to XML body: {}", xmlBody);
@@ -84,6 +131,12 @@ public class XmlConverter {
                 return null;
             }
 
+            if (mode == Mode.STAX) {
+                T result = readSoapBody(soapXml, responseType);
+                log.debug("Converted object: {}", result);
+                return result;
+            }
+
             // 1. SOAP 엔벨로프에서 바디 추출
             String xmlBody = extractSoapBody(soapXml);
             log.debug("Extracted XML body: {}", xmlBody);
@@ -190,4 +243,68 @@ public class XmlConverter {
 
         throw new BizException(ErrorCode.INTERNAL_SERVER_ERROR, "SOAP Body의 응답 엘리먼트를 찾을 수 없습니다.");
     }
-}
\ No newline at end of file
+
+    /**
+     * 고정된 엔벨로프 앞뒤 문자열 사이에 Jackson XML 출력을 직접 기록합니다.
+     *
+     * @param jsonRequest 요청 객체
+     * @return SOAP 엔벨로프가 포함된 XML 문자열
+     */
+    private String writeSoapEnvelope(Object jsonRequest) throws Exception {
+        StringWriter writer = new StringWriter(256);
+        writer.write(SOAP_ENVELOPE_PREFIX);
+        bodyWriter.writeValue(writer, jsonRequest);
+        writer.write(SOAP_ENVELOPE_SUFFIX);
+        return writer.toString();
+    }
+
+    /**
+     * StAX 리더를 SOAP 바디의 첫 번째 자식 엘리먼트에 위치시킨 뒤 바로 역직렬화합니다.
+     * 바디가 없으면 전체 XML을 응답 객체로 간주합니다.
+     *
+     * @param soapXml SOAP XML 문자열
+     * @param responseType 응답 객체 타입
+     * @param <T> 응답 객체 타입
+     * @return 응답 객체
+     */
+    private <T> T readSoapBody(String soapXml, Class<T> responseType) throws Exception {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new StringReader(soapXml));
+        try {
+            if (!moveToBody(reader)) {
+                // XML이 SOAP 형식이 아니라면, 전체 XML을 변환
+                log.warn("SOAP Body not found, treating entire XML as content");
+                return xmlMapper.readValue(soapXml, responseType);
+            }
+
+            // 바디의 첫 번째 자식 엘리먼트로 이동 (응답 객체)
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    return xmlMapper.readValue(reader, responseType);
+                }
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    break;
+                }
+            }
+
+            throw new BizException(ErrorCode.INTERNAL_SERVER_ERROR, "SOAP Body의 응답 엘리먼트를 찾을 수 없습니다.");
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 리더를 SOAP Body 시작 엘리먼트까지 이동합니다.
+     *
+     * @param reader XML 스트림 리더
+     * @return Body 엘리먼트를 찾았으면 true
+     */
+    private boolean moveToBody(XMLStreamReader reader) throws Exception {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && "Body".equals(reader.getLocalName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -142,4 +142,14 @@ public class ProductMockController {
         String productInfoXml = mockProductService.getProductInfoXml(productCode);
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_XML).body(productInfoXml);
     }
-}
\ No newline at end of file
+
+    /**
+     * 판매 중인 상품 목록 조회 API - 빌링 컨트롤러에서 호출하는 경로
+     */
+    @GetMapping("/billings/products")
+    public ResponseEntity<String> getBillingProductList() {
+        log.info("목업: 빌링 경로 상품 목록 조회 요청");
+        String productListXml = mockProductService.getProductListXml();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_XML).body(productListXml);
+    }
+}
@@ -74,6 +74,28 @@ public class MockProductService {
         );
     }
 
+    /**
+     * 판매 중인 상품 목록 XML 형식으로 조회
+     * @return 상품 목록 XML
+     */
+    public String getProductListXml() {
+        StringBuilder products = new StringBuilder();
+        mockDataService.getProductDb().values().stream()
+                .filter(productInfo -> "ACTIVE".equals(productInfo.getStatus()))
+                .forEach(productInfo -> products
+                        .append("<product>")
+                        .append("<productCode>").append(productInfo.getProductCode()).append("</productCode>")
+                        .append("<productName>").append(productInfo.getProductName()).append("</productName>")
+                        .append("<fee>").append(productInfo.getFee()).append("</fee>")
+                        .append("</product>"));
+
+        return xmlUtility.wrapInSoapEnvelope(
+                "<productListResponse>" +
+                        "<products>" + products + "</products>" +
+                        "</productListResponse>"
+        );
+    }
+
     /**
      * 상품 변경 가능 여부 XML 형식으로 조회
      * @param phoneNumber 휴대폰 번호
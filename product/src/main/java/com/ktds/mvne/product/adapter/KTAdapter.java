@@ -4,6 +4,8 @@ import com.ktds.mvne.product.dto.CustomerInfoResponseDTO;
 import com.ktds.mvne.product.dto.ProductChangeResponse;
 import com.ktds.mvne.product.dto.ProductInfoDTO;
 
+import java.util.List;
+
 /**
  * KT 영업시스템과의 연동을 위한 어댑터 인터페이스입니다.
  */
@@ -25,6 +27,14 @@ public interface KTAdapter {
      */
     ProductInfoDTO getProductInfo(String productCode);
 
+    /**
+     * 판매 중인 전체 상품 목록을 조회합니다.
+     * 다른 조회와 달리 실패 시 기본값을 반환하지 않고 예외를 전달합니다.
+     *
+     * @return 상품 목록
+     */
+    List<ProductInfoDTO> getProductList();
+
     /**
      * 상품을 변경합니다.
      *
@@ -13,6 +13,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * KT 영업시스템과의 연동을 위한 어댑터 구현체입니다.
  */
@@ -26,6 +29,9 @@ public class KTAdapterImpl implements KTAdapter {
     @Value("${kos.adapter.base-url}")
     private String kosAdapterBaseUrl;
 
+    @Value("${kos.adapter.response-timeout-ms:30000}")
+    private long responseTimeoutMs;
+
     @Override
     public CustomerInfoResponseDTO getCustomerInfo(String phoneNumber) {
         log.info("KT 어댑터 - 고객 정보 조회 요청 - 회선번호: {}", phoneNumber);
@@ -56,6 +62,18 @@ public class KTAdapterImpl implements KTAdapter {
                 .block();
     }
 
+    @Override
+    public List<ProductInfoDTO> getProductList() {
+        log.info("KT 어댑터 - 상품 목록 조회 요청");
+
+        return webClient.get()
+                .uri(kosAdapterBaseUrl + "/api/kos/products")
+                .retrieve()
+                .bodyToFlux(ProductInfoDTO.class)
+                .collectList()
+                .block();
+    }
+
     /**
      * 기본 고객 정보 객체를 생성합니다.
      *
@@ -102,10 +120,12 @@ public class KTAdapterImpl implements KTAdapter {
                     "&productCode=" + productCode +
                     "&changeReason=" + changeReason;
 
+            // 응답 대기 시간을 선점 만료 시간보다 짧게 제한해, 호출 중인 요청을 다른 워커가 다시 선점하지 않도록 함
             return webClient.post()
                     .uri(url)
                     .retrieve()
                     .bodyToMono(ProductChangeResponse.class)
+                    .timeout(Duration.ofMillis(responseTimeoutMs))
                     .onErrorResume(e -> {
                         log.error("KT 어댑터 - 상품 변경 실패: {}", e.getMessage(), e);
                         return Mono.just(createDefaultChangeResponse(phoneNumber, productCode));
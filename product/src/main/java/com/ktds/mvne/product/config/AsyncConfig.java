@@ -8,6 +8,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 비동기 처리 및 스케줄링을 위한 설정 클래스입니다.
@@ -44,4 +46,26 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 상품 변경 가능 여부 확인 시 고객 정보와 상품 정보를 동시에 조회하기 위한 실행기 빈을 생성합니다.
+     * 작업 대부분이 I/O 대기이므로 가상 스레드를 사용합니다.
+     *
+     * @return ExecutorService 인스턴스
+     */
+    @Bean
+    public ExecutorService productLookupExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-lookup-", 0).factory());
+    }
+
+    /**
+     * 상품 변경 워커가 선점한 요청을 병렬로 처리하기 위한 실행기 빈을 생성합니다.
+     * 동시 처리 수는 워커에서 세마포어로 제한합니다.
+     *
+     * @return ExecutorService 인스턴스
+     */
+    @Bean
+    public ExecutorService productWorkerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-worker-", 0).factory());
+    }
 }
@@ -50,6 +50,50 @@ public class MetricsConfig {
                 .register(registry);
     }
 
+    /**
+     * 상품 카탈로그 갱신 실패 카운터를 생성합니다.
+     * 갱신에 실패해 이전 스냅샷을 유지한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter productCatalogRefreshFailureCounter(MeterRegistry registry) {
+        return Counter.builder("product_catalog_refresh_failure_total")
+                .description("상품 카탈로그 갱신 실패 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 적격성 판정 재사용 카운터를 생성합니다.
+     * 상품 변경 시 최근 판정을 재사용해 재검증을 생략한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter productEligibilityReuseCounter(MeterRegistry registry) {
+        return Counter.builder("product_eligibility_reuse_total")
+                .description("적격성 판정 재사용 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 상품 변경 재시도 예약 카운터를 생성합니다.
+     * 일시적 실패로 백오프 후 재시도를 예약한 횟수를 측정합니다.
+     */
+    @Bean
+    public Counter productChangeRetryScheduledCounter(MeterRegistry registry) {
+        return Counter.builder("product_change_retry_scheduled_total")
+                .description("상품 변경 재시도 예약 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 상품 변경 데드레터 카운터를 생성합니다.
+     * 최대 시도 횟수를 넘겨 DEAD_LETTER로 전환된 요청 수를 측정합니다.
+     */
+    @Bean
+    public Counter productChangeDeadLetterCounter(MeterRegistry registry) {
+        return Counter.builder("product_change_dead_letter_total")
+                .description("상품 변경 데드레터 전환 횟수")
+                .register(registry);
+    }
+
     /**
      * 상품 변경 API 요청 카운터를 생성합니다.
      * 상품 변경 API 요청 횟수를 측정합니다.
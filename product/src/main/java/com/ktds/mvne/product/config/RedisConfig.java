@@ -0,0 +1,99 @@
+package com.ktds.mvne.product.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktds.mvne.common.cache.CustomerProfileCache;
+import com.ktds.mvne.product.dto.CustomerInfoResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * Redis 설정 클래스입니다.
+ * 요금조회 서비스와 공유하는 고객 정보 캐시에 사용합니다.
+ */
+@Configuration
+public class RedisConfig {
+
+    @Value("${spring.redis.host}")
+    private String redisHost;
+
+    @Value("${spring.redis.port}")
+    private int redisPort;
+
+    @Value("${spring.redis.password:}")
+    private String redisPassword;
+
+    /**
+     * Redis 연결 팩토리 빈을 생성합니다.
+     *
+     * @return RedisConnectionFactory 인스턴스
+     */
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory() {
+        RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration(redisHost, redisPort);
+        if (!redisPassword.isEmpty()) {
+            redisConfig.setPassword(redisPassword);
+        }
+        return new LettuceConnectionFactory(redisConfig);
+    }
+
+    /**
+     * StringRedisTemplate 빈을 생성합니다.
+     *
+     * @param connectionFactory RedisConnectionFactory 인스턴스
+     * @return StringRedisTemplate 인스턴스
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Redis pub/sub 메시지 수신 컨테이너 빈을 생성합니다.
+     *
+     * @param connectionFactory RedisConnectionFactory 인스턴스
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * 요금조회 서비스와 공유하는 고객 정보 캐시 빈을 생성합니다.
+     * 조회 실패 시의 기본 응답(UNKNOWN)은 캐시하지 않습니다.
+     *
+     * @param stringRedisTemplate StringRedisTemplate 인스턴스
+     * @param listenerContainer 무효화 메시지 수신 컨테이너
+     * @param objectMapper ObjectMapper 인스턴스
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 고객 정보 캐시
+     */
+    @Bean
+    public CustomerProfileCache<CustomerInfoResponseDTO> customerProfileCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${cache.customer-profile.local-max-size:10000}") long localMaxSize,
+            @Value("${cache.customer-profile.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${cache.customer-profile.redis-ttl-minutes:30}") long redisTtlMinutes,
+            @Value("${cache.customer-profile.invalidation-channel:customer:profile:invalidate}") String channel,
+            @Value("${cache.customer-profile.eviction-tombstone-seconds:30}") long tombstoneSeconds) {
+        return new CustomerProfileCache<>(stringRedisTemplate, listenerContainer, objectMapper, meterRegistry,
+                CustomerInfoResponseDTO.class,
+                customerInfo -> customerInfo.getStatus() != null && !"UNKNOWN".equals(customerInfo.getStatus()),
+                new CustomerProfileCache.Properties(localMaxSize, Duration.ofSeconds(localTtlSeconds),
+                        Duration.ofMinutes(redisTtlMinutes), channel, Duration.ofSeconds(tombstoneSeconds)));
+    }
+}
@@ -2,10 +2,13 @@ package com.ktds.mvne.product.config;
 import org.springframework.beans.factory.annotation.Value; // lombok.Value 대신 spring의 Value로 변경
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.http.client.HttpClient;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,6 +21,9 @@ public class WebClientConfig implements WebMvcConfigurer {
     @Value("${server.allowed-origins:http://localhost:3000}") // 기본값 추가
     private String allowedOrigins;
 
+    @Value("${kos.adapter.response-timeout-ms:30000}")
+    private long responseTimeoutMs;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -26,8 +32,17 @@ public class WebClientConfig implements WebMvcConfigurer {
                 .allowedHeaders("*");
     }
 
+    /**
+     * KOS 어댑터 호출용 WebClient를 생성합니다.
+     * 응답이 오지 않는 호출이 무한정 대기하지 않도록 응답 대기 시간을 제한합니다.
+     *
+     * @return WebClient
+     */
     @Bean
     public WebClient webClient() {
-        return WebClient.builder().build();
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(
+                        HttpClient.create().responseTimeout(Duration.ofMillis(responseTimeoutMs))))
+                .build();
     }
 }
\ No newline at end of file
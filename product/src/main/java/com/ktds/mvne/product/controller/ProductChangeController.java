@@ -1,18 +1,25 @@
 package com.ktds.mvne.product.controller;
 
 import com.ktds.mvne.common.dto.ApiResponse;
+import com.ktds.mvne.common.exception.BizException;
 import com.ktds.mvne.product.dto.ProductChangeRequest;
 import com.ktds.mvne.product.dto.ProductChangeResponse;
+import com.ktds.mvne.product.dto.ProductChangeStatusResponse;
 import com.ktds.mvne.product.service.ProductService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -41,7 +48,9 @@ public class ProductChangeController {
     @PostMapping("/change")
     @Operation(summary = "상품 변경", description = "현재 사용 중인 상품을 다른 상품으로 변경합니다.")
     public ResponseEntity<ApiResponse<ProductChangeResponse>> changeProduct(
-            @RequestBody ProductChangeRequest request) {
+            @RequestBody ProductChangeRequest request,
+            @Parameter(description = "멱등 키 (같은 키로 다시 요청하면 저장된 결과 반환)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.debug("changeProduct request for phoneNumber: {}, productCode: {}, changeReason: {}",
                 request.getPhoneNumber(), request.getProductCode(), request.getChangeReason());
         productChangeRequestCounter.increment();
@@ -49,11 +58,15 @@ public class ProductChangeController {
         try {
             Timer.Sample sample = Timer.start();
             ProductChangeResponse response = productService.changeProduct(
-                    request.getPhoneNumber(), request.getProductCode(), request.getChangeReason());
+                    request.getPhoneNumber(), request.getProductCode(), request.getChangeReason(), idempotencyKey);
             sample.stop(productChangeOperationTimer);
 
             productChangeSuccessCounter.increment();
             return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (BizException e) {
+            productChangeErrorCounter.increment();
+            return ResponseEntity.status(e.getErrorCode().getCode()).body(
+                    ApiResponse.of(e.getErrorCode().getCode(), e.getDetail(), null));
         } catch (Exception e) {
             log.error("Error in changeProduct for phoneNumber: {}, productCode: {}: {}",
                     request.getPhoneNumber(), request.getProductCode(), e.getMessage(), e);
@@ -62,4 +75,58 @@ public class ProductChangeController {
                     ApiResponse.of(500, "요금 정보 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 상품 변경 요청을 비동기로 접수합니다.
+     * 요청을 저장한 뒤 202와 요청 ID를 바로 반환하며, 처리 결과는 상태 조회 API로 확인합니다.
+     *
+     * @param request 상품 변경 요청
+     * @return 접수된 요청의 처리 상태
+     */
+    @PostMapping(value = "/change", params = "async=true")
+    @Operation(summary = "상품 변경 (비동기)", description = "상품 변경 요청을 접수하고 처리 결과를 기다리지 않고 요청 ID를 반환합니다.")
+    public ResponseEntity<ApiResponse<ProductChangeStatusResponse>> changeProductAsync(
+            @RequestBody ProductChangeRequest request,
+            @Parameter(description = "멱등 키 (같은 키로 다시 요청하면 기존 요청 상태 반환)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        log.debug("changeProductAsync request for phoneNumber: {}, productCode: {}, changeReason: {}",
+                request.getPhoneNumber(), request.getProductCode(), request.getChangeReason());
+        productChangeRequestCounter.increment();
+
+        try {
+            ProductChangeStatusResponse response = productService.requestProductChangeAsync(
+                    request.getPhoneNumber(), request.getProductCode(), request.getChangeReason(), idempotencyKey);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                    ApiResponse.of(HttpStatus.ACCEPTED.value(), "상품 변경 요청이 접수되었습니다.", response));
+        } catch (BizException e) {
+            productChangeErrorCounter.increment();
+            return ResponseEntity.status(e.getErrorCode().getCode()).body(
+                    ApiResponse.of(e.getErrorCode().getCode(), e.getDetail(), null));
+        } catch (Exception e) {
+            log.error("Error in changeProductAsync for phoneNumber: {}, productCode: {}: {}",
+                    request.getPhoneNumber(), request.getProductCode(), e.getMessage(), e);
+            productChangeErrorCounter.increment();
+            return ResponseEntity.status(500).body(
+                    ApiResponse.of(500, "상품 변경 요청 접수 중 오류가 발생했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 상품 변경 요청의 처리 상태를 조회합니다.
+     *
+     * @param requestId 요청 ID
+     * @return 처리 상태
+     */
+    @GetMapping("/change/{requestId}")
+    @Operation(summary = "상품 변경 상태 조회", description = "상품 변경 요청의 처리 상태를 조회합니다.")
+    public ResponseEntity<ApiResponse<ProductChangeStatusResponse>> getProductChangeStatus(
+            @Parameter(description = "요청 ID")
+            @PathVariable("requestId") String requestId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(productService.getProductChangeStatus(requestId)));
+        } catch (BizException e) {
+            return ResponseEntity.status(e.getErrorCode().getCode()).body(
+                    ApiResponse.of(e.getErrorCode().getCode(), e.getDetail(), null));
+        }
+    }
+}
@@ -14,7 +14,9 @@ import java.util.List;
  * 상품 변경 적격성 검사 엔티티입니다.
  */
 @Entity
-@Table(name = "eligibility_checks")
+@Table(name = "eligibility_checks", indexes = {
+        @Index(name = "idx_eligibility_checks_line_product", columnList = "line_number, product_code, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -50,7 +52,13 @@ public class EligibilityCheck {
 
     private LocalDateTime updatedAt;
 
+    /**
+     * 상품 변경 요청에서 이 판정을 사용한 시각입니다. 한 번 사용된 판정은 재사용하지 않습니다.
+     */
+    private LocalDateTime consumedAt;
+
     @OneToMany(mappedBy = "eligibilityCheck", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
     private List<EligibilityReason> reasons = new ArrayList<>();
 
     /**
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
  * 상품 변경 요청 처리 결과 엔티티입니다.
  */
 @Entity
-@Table(name = "product_change_results")
+@Table(name = "product_change_results", indexes = {
+        @Index(name = "idx_product_change_results_status_next_attempt", columnList = "status, next_attempt_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_change_results_idempotency_key", columnNames = "idempotency_key")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -43,4 +47,28 @@ public class ProductChangeResult {
     private LocalDateTime timestamp;
 
     private String errorMessage;
+
+    /**
+     * 워커가 KT 어댑터 호출을 시도한 횟수입니다.
+     */
+    private Integer attemptCount;
+
+    /**
+     * 큐에 있는 요청을 다음에 처리할 수 있는 시각입니다.
+     */
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 클라이언트가 Idempotency-Key 헤더로 지정한 멱등 키입니다.
+     */
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 낙관적 잠금 버전입니다. 선점이 만료되어 다른 워커가 다시 선점한 요청을
+     * 이전 처리자가 뒤늦게 저장하면 실패하도록 합니다.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.ktds.mvne.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 요청 처리 상태 응답 DTO입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 변경 요청 처리 상태")
+public class ProductChangeStatusResponse {
+
+    @Schema(description = "요청 ID", example = "3f2b8c1e-8d1a-4a51-9b7e-2c6f0e1d4a90")
+    private String requestId;
+
+    @Schema(description = "회선 번호", example = "01012345678")
+    private String phoneNumber;
+
+    @Schema(description = "변경하려는 상품 코드", example = "5GX_PREMIUM")
+    private String productCode;
+
+    @Schema(description = "처리 상태 (REQUESTED, QUEUED, RETRYING, COMPLETED, FAILED, DEAD_LETTER)", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "KT 영업시스템 트랜잭션 ID")
+    private String transactionId;
+
+    @Schema(description = "오류 메시지")
+    private String errorMessage;
+
+    @Schema(description = "시도 횟수", example = "1")
+    private Integer attemptCount;
+
+    @Schema(description = "다음 재시도 예정 시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Schema(description = "마지막 상태 변경 시각")
+    private LocalDateTime updatedAt;
+}
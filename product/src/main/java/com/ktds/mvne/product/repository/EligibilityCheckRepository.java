@@ -0,0 +1,62 @@
+package com.ktds.mvne.product.repository;
+
+import com.ktds.mvne.product.domain.EligibilityCheck;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 적격성 검사 결과를 저장하고 조회하는 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface EligibilityCheckRepository extends JpaRepository<EligibilityCheck, Long> {
+
+    /**
+     * 기준 시각 이후에 기록된 미사용 적격 판정을 사용 처리합니다.
+     * 조회와 사용 처리를 한 문장으로 수행하므로 동시 요청이 같은 판정을 중복 사용하지 않습니다.
+     *
+     * @param lineNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param since 유효 기간 시작 시각
+     * @param consumedAt 사용 처리 시각
+     * @return 사용 처리된 판정 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EligibilityCheck c SET c.consumedAt = :consumedAt " +
+            "WHERE c.lineNumber = :lineNumber AND c.productCode = :productCode " +
+            "AND c.eligible = true AND c.consumedAt IS NULL AND c.createdAt >= :since")
+    int consumeRecentEligible(@Param("lineNumber") String lineNumber,
+                              @Param("productCode") String productCode,
+                              @Param("since") LocalDateTime since,
+                              @Param("consumedAt") LocalDateTime consumedAt);
+
+    /**
+     * 기준 시각 이전에 기록된 판정의 사유를 삭제합니다.
+     * JPQL 일괄 삭제에는 엔티티 cascade가 적용되지 않으므로 판정보다 먼저 삭제합니다.
+     *
+     * @param cutoff 삭제 기준 시각
+     * @return 삭제된 사유 수
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EligibilityReason r WHERE r.eligibilityCheck.checkId IN " +
+            "(SELECT c.checkId FROM EligibilityCheck c WHERE c.createdAt < :cutoff)")
+    int deleteReasonsCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 기준 시각 이전에 기록된 판정을 삭제합니다.
+     *
+     * @param cutoff 삭제 기준 시각
+     * @return 삭제된 판정 수
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EligibilityCheck c WHERE c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
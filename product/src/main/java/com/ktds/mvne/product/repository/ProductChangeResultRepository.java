@@ -2,8 +2,13 @@ package com.ktds.mvne.product.repository;
 
 import com.ktds.mvne.product.domain.ProductChangeResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +18,21 @@ import java.util.Optional;
 @Repository
 public interface ProductChangeResultRepository extends JpaRepository<ProductChangeResult, Long> {
 
+    /**
+     * 상품 변경 결과를 저장하고 저장된 ID와 버전을 전달한 객체에 반영합니다.
+     * 트랜잭션 밖에서 같은 객체를 여러 번 저장해도 낙관적 잠금 버전이 어긋나지 않도록 합니다.
+     *
+     * @param result 저장할 상품 변경 결과
+     * @return 저장된 상품 변경 결과
+     * @throws org.springframework.dao.OptimisticLockingFailureException 다른 처리자가 먼저 저장한 경우
+     */
+    default ProductChangeResult saveTracked(ProductChangeResult result) {
+        ProductChangeResult saved = save(result);
+        result.setId(saved.getId());
+        result.setVersion(saved.getVersion());
+        return saved;
+    }
+
     /**
      * 요청 ID로 상품 변경 결과를 조회합니다.
      *
@@ -21,6 +41,14 @@ public interface ProductChangeResultRepository extends JpaRepository<ProductChan
      */
     Optional<ProductChangeResult> findByRequestId(String requestId);
 
+    /**
+     * 멱등 키로 상품 변경 결과를 조회합니다.
+     *
+     * @param idempotencyKey 멱등 키
+     * @return 상품 변경 결과
+     */
+    Optional<ProductChangeResult> findByIdempotencyKey(String idempotencyKey);
+
     /**
      * 상태별로 상품 변경 결과를 조회합니다.
      *
@@ -36,4 +64,38 @@ public interface ProductChangeResultRepository extends JpaRepository<ProductChan
      * @return 상품 변경 결과 목록
      */
     List<ProductChangeResult> findByPhoneNumber(String phoneNumber);
+
+    /**
+     * 처리 대기 중인 요청을 지정한 개수만큼 잠그고 조회합니다.
+     * 다른 인스턴스가 잠근 행은 건너뛰므로 여러 워커가 같은 요청을 동시에 가져가지 않습니다.
+     * 처리 중 상태(RETRYING, REQUESTED)로 오래 남은 요청(인스턴스 중단 등)도 다시 가져옵니다.
+     * 반드시 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param now 현재 시각 (다음 처리 시각이 지난 QUEUED 요청만 조회)
+     * @param staleBefore 이 시각 이전에 처리를 시작한 RETRYING/REQUESTED 요청을 재처리 대상으로 포함
+     * @param limit 최대 조회 개수
+     * @return 잠금을 획득한 상품 변경 결과 목록
+     */
+    @Query(value = "SELECT * FROM product_change_results " +
+            "WHERE (status = 'QUEUED' AND next_attempt_at <= :now) " +
+            "OR (status IN ('RETRYING', 'REQUESTED') AND timestamp < :staleBefore) " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProductChangeResult> lockClaimableBatch(@Param("now") LocalDateTime now,
+                                                 @Param("staleBefore") LocalDateTime staleBefore,
+                                                 @Param("limit") int limit);
+
+    /**
+     * 다음 처리 시각이 없는 기존 대기 요청에 처리 시각과 시도 횟수를 채웁니다.
+     * 컬럼 추가 이전에 큐에 들어간 요청이 처리 대상에서 빠지지 않도록 기동 시 한 번 실행합니다.
+     *
+     * @return 갱신된 요청 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ProductChangeResult r SET r.nextAttemptAt = r.timestamp, " +
+            "r.attemptCount = COALESCE(r.attemptCount, 0) " +
+            "WHERE r.status IN ('QUEUED', 'RETRYING') AND r.nextAttemptAt IS NULL")
+    int backfillNextAttemptAt();
 }
@@ -14,4 +14,11 @@ public interface CustomerService {
      * @return 고객 정보
      */
     CustomerInfoResponseDTO getCustomerInfo(String phoneNumber);
+
+    /**
+     * 상품 변경 등으로 바뀐 고객 정보를 캐시에서 제거합니다.
+     *
+     * @param phoneNumber 회선 번호
+     */
+    void evictCustomerInfo(String phoneNumber);
 }
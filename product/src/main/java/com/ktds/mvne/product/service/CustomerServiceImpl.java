@@ -1,5 +1,6 @@
 package com.ktds.mvne.product.service;
 
+import com.ktds.mvne.common.cache.CustomerProfileCache;
 import com.ktds.mvne.common.exception.BizException;
 import com.ktds.mvne.common.exception.ErrorCode;
 import com.ktds.mvne.common.util.ValidationUtil;
@@ -19,9 +20,11 @@ import org.springframework.stereotype.Service;
 public class CustomerServiceImpl implements CustomerService {
 
     private final KTAdapter ktAdapter;
+    private final CustomerProfileCache<CustomerInfoResponseDTO> customerProfileCache;
 
     /**
      * 고객 정보를 조회합니다.
+     * 로컬/Redis 고객 정보 캐시를 먼저 확인하고, 없을 때만 KT 어댑터를 호출합니다.
      *
      * @param phoneNumber 회선 번호
      * @return 고객 정보
@@ -31,6 +34,26 @@ public class CustomerServiceImpl implements CustomerService {
         log.info("고객 정보 조회 서비스 호출 - 전화번호: {}", phoneNumber);
         validatePhoneNumber(phoneNumber);
 
+        return customerProfileCache.get(phoneNumber, () -> loadCustomerInfo(phoneNumber));
+    }
+
+    /**
+     * 상품 변경 등으로 바뀐 고객 정보를 모든 인스턴스의 캐시에서 제거합니다.
+     *
+     * @param phoneNumber 회선 번호
+     */
+    @Override
+    public void evictCustomerInfo(String phoneNumber) {
+        customerProfileCache.evict(phoneNumber);
+    }
+
+    /**
+     * KT 어댑터에서 고객 정보를 조회합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @return 고객 정보, 오류 시 기본 응답
+     */
+    private CustomerInfoResponseDTO loadCustomerInfo(String phoneNumber) {
         try {
             CustomerInfoResponseDTO customerInfo = ktAdapter.getCustomerInfo(phoneNumber);
             log.info("KTAdapter에서 반환된 정보: {}", customerInfo);
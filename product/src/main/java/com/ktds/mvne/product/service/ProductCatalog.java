@@ -0,0 +1,138 @@
+package com.ktds.mvne.product.service;
+
+import com.ktds.mvne.product.adapter.KTAdapter;
+import com.ktds.mvne.product.dto.ProductInfoDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 카탈로그를 메모리에 보관하는 컴포넌트입니다.
+ * 기동 시 KOS에서 전체 상품 목록을 적재하고 주기적으로 갱신하며,
+ * 조회는 불변 스냅샷에서 추가 할당 없이 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalog {
+
+    private final KTAdapter ktAdapter;
+    private final Counter productCatalogRefreshFailureCounter;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    @Value("${product.catalog.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 카탈로그 스냅샷입니다. 내용이 바뀔 때만 버전이 증가합니다.
+     *
+     * @param version 스냅샷 버전 (0은 미적재)
+     * @param loadedAt 마지막으로 내용이 바뀐 시각
+     * @param products 상품 코드별 상품 정보 (불변)
+     */
+    public record Snapshot(long version, LocalDateTime loadedAt, Map<String, ProductInfoDTO> products) {
+        static final Snapshot EMPTY = new Snapshot(0L, null, Map.of());
+    }
+
+    /**
+     * 기동 시 카탈로그를 적재하고 메트릭을 등록합니다.
+     * 적재에 실패해도 기동은 계속되며, 다음 갱신 주기까지는 KOS 개별 조회로 대체됩니다.
+     */
+    @PostConstruct
+    public void init() {
+        Gauge.builder("product_catalog_version", snapshot, ref -> ref.get().version())
+                .description("상품 카탈로그 스냅샷 버전")
+                .register(meterRegistry);
+        Gauge.builder("product_catalog_size", snapshot, ref -> ref.get().products().size())
+                .description("상품 카탈로그 상품 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * KOS에서 전체 상품 목록을 다시 읽어 스냅샷을 교체합니다.
+     * 실패하거나 빈 목록이 오면 기존 스냅샷을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${product.catalog.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<ProductInfoDTO> products = ktAdapter.getProductList();
+            if (products == null || products.isEmpty()) {
+                log.warn("Product catalog refresh returned no products, keeping version {}", snapshot.get().version());
+                productCatalogRefreshFailureCounter.increment();
+                return;
+            }
+
+            Map<String, ProductInfoDTO> loaded = new HashMap<>(products.size() * 2);
+            for (ProductInfoDTO product : products) {
+                if (product != null && product.getProductCode() != null) {
+                    loaded.put(product.getProductCode(), product);
+                }
+            }
+
+            Snapshot current = snapshot.get();
+            if (current.version() > 0 && current.products().equals(loaded)) {
+                log.debug("Product catalog unchanged (version {})", current.version());
+                return;
+            }
+
+            Snapshot next = new Snapshot(current.version() + 1, LocalDateTime.now(), Map.copyOf(loaded));
+            snapshot.set(next);
+            log.info("Product catalog loaded: version {}, {} products", next.version(), next.products().size());
+        } catch (Exception e) {
+            productCatalogRefreshFailureCounter.increment();
+            log.warn("Product catalog refresh failed, keeping version {}: {}", snapshot.get().version(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카탈로그가 한 번 이상 적재되었는지 확인합니다.
+     *
+     * @return 적재 여부
+     */
+    public boolean isLoaded() {
+        return snapshot.get().version() > 0;
+    }
+
+    /**
+     * 상품 정보를 조회합니다.
+     * 반환되는 객체는 스냅샷과 공유되므로 수정하면 안 됩니다.
+     *
+     * @param productCode 상품 코드
+     * @return 상품 정보, 카탈로그에 없으면 null
+     */
+    public ProductInfoDTO getProductInfo(String productCode) {
+        return snapshot.get().products().get(productCode);
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     *
+     * @return 카탈로그 스냅샷
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+}
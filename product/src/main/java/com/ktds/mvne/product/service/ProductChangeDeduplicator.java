@@ -0,0 +1,165 @@
+package com.ktds.mvne.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktds.mvne.common.exception.BizException;
+import com.ktds.mvne.common.exception.ErrorCode;
+import com.ktds.mvne.product.dto.ProductChangeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키가 지정된 상품 변경 요청의 인스턴스 내 중복을 제거합니다.
+ * 처리 중인 요청은 같은 키의 후속 요청이 결과를 함께 기다리고,
+ * 끝난 요청의 결과는 짧은 기간 메모리에 보관해 DB 조회 없이 반환합니다.
+ * 인스턴스 간 중복은 product_change_results.idempotency_key 유니크 인덱스가 막습니다.
+ */
+@Component
+@Slf4j
+public class ProductChangeDeduplicator {
+
+    private final Cache<String, Outcome> completed;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final long inFlightWaitMs;
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter joinedCounter;
+    private final Counter conflictCounter;
+
+    /**
+     * 끝난 요청의 결과와 요청 내용(회선 번호, 상품 코드)입니다.
+     */
+    private record Outcome(String fingerprint, ProductChangeResponse response) {
+    }
+
+    /**
+     * 처리 중인 요청의 결과 future와 요청 내용입니다.
+     */
+    private record InFlight(String fingerprint, CompletableFuture<ProductChangeResponse> future) {
+    }
+
+    public ProductChangeDeduplicator(
+            MeterRegistry meterRegistry,
+            @Value("${product.idempotency.cache-max-size:10000}") long cacheMaxSize,
+            @Value("${product.idempotency.cache-ttl-seconds:600}") long cacheTtlSeconds,
+            @Value("${product.idempotency.in-flight-wait-ms:10000}") long inFlightWaitMs) {
+        this.inFlightWaitMs = inFlightWaitMs;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+        this.executedCounter = idempotencyCounter(meterRegistry, "executed");
+        this.replayedCounter = idempotencyCounter(meterRegistry, "replayed");
+        this.joinedCounter = idempotencyCounter(meterRegistry, "joined");
+        this.conflictCounter = idempotencyCounter(meterRegistry, "conflict");
+    }
+
+    /**
+     * 같은 멱등 키의 요청을 한 번만 처리합니다.
+     * 같은 키를 다른 회선/상품에 재사용하면 CONFLICT 예외가 발생합니다.
+     *
+     * @param idempotencyKey 멱등 키
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param action 실제 상품 변경 처리
+     * @param completedOutcome 결과를 보관해 재사용해도 되는 확정된 응답인지 판단하는 조건
+     * @return 상품 변경 결과 (중복 요청이면 먼저 처리된 결과)
+     */
+    public ProductChangeResponse execute(String idempotencyKey, String phoneNumber, String productCode,
+                                         Supplier<ProductChangeResponse> action,
+                                         Predicate<ProductChangeResponse> completedOutcome) {
+        String fingerprint = phoneNumber + ":" + productCode;
+
+        Outcome outcome = completed.getIfPresent(idempotencyKey);
+        if (outcome != null) {
+            verifyFingerprint(idempotencyKey, outcome.fingerprint(), fingerprint);
+            replayedCounter.increment();
+            return outcome.response();
+        }
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(idempotencyKey, mine);
+        if (existing != null) {
+            verifyFingerprint(idempotencyKey, existing.fingerprint(), fingerprint);
+            joinedCounter.increment();
+            return await(idempotencyKey, existing.future());
+        }
+
+        try {
+            ProductChangeResponse response = action.get();
+            // 큐에 넣어 재처리할 요청은 보관하지 않아야 이후 요청이 DB의 최신 상태를 확인함
+            if (completedOutcome.test(response)) {
+                completed.put(idempotencyKey, new Outcome(fingerprint, response));
+            }
+            mine.future().complete(response);
+            executedCounter.increment();
+            return response;
+        } catch (RuntimeException e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, mine);
+        }
+    }
+
+    /**
+     * 처리 중인 요청의 결과를 기다립니다. 먼저 들어온 요청이 실패하면 같은 예외를 전달합니다.
+     *
+     * @param idempotencyKey 멱등 키
+     * @param future 처리 중인 요청의 결과
+     * @return 상품 변경 결과
+     */
+    private ProductChangeResponse await(String idempotencyKey, CompletableFuture<ProductChangeResponse> future) {
+        try {
+            return future.get(inFlightWaitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BizException(ErrorCode.INTERNAL_SERVER_ERROR, "동일한 상품 변경 요청 처리 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for in-flight product change: {}", idempotencyKey);
+            throw new BizException(ErrorCode.CONFLICT, "동일한 상품 변경 요청이 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BizException(ErrorCode.CONFLICT, "동일한 상품 변경 요청이 처리 중입니다.");
+        }
+    }
+
+    /**
+     * 같은 멱등 키가 같은 요청 내용으로 사용되었는지 확인합니다.
+     *
+     * @param idempotencyKey 멱등 키
+     * @param expected 먼저 처리된 요청의 내용
+     * @param actual 현재 요청의 내용
+     * @throws BizException 요청 내용이 다른 경우
+     */
+    private void verifyFingerprint(String idempotencyKey, String expected, String actual) {
+        if (!expected.equals(actual)) {
+            log.warn("Idempotency key {} reused for a different request", idempotencyKey);
+            conflictCounter.increment();
+            throw new BizException(ErrorCode.CONFLICT, "다른 요청에 이미 사용된 멱등 키입니다.");
+        }
+    }
+
+    private static Counter idempotencyCounter(MeterRegistry registry, String result) {
+        return Counter.builder("product_change_idempotency_total")
+                .description("멱등 키 상품 변경 요청 처리 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -2,6 +2,7 @@ package com.ktds.mvne.product.service;
 
 import com.ktds.mvne.product.dto.ProductCheckResponse;
 import com.ktds.mvne.product.dto.ProductChangeResponse;
+import com.ktds.mvne.product.dto.ProductChangeStatusResponse;
 
 /**
  * 상품 정보 및 변경 관련 서비스 인터페이스입니다.
@@ -23,7 +24,30 @@ public interface ProductService {
      * @param phoneNumber 회선 번호
      * @param productCode 변경하려는 상품 코드
      * @param changeReason 변경 사유
+     * @param idempotencyKey 멱등 키 (없으면 null)
      * @return 상품 변경 결과
      */
-    ProductChangeResponse changeProduct(String phoneNumber, String productCode, String changeReason);
+    ProductChangeResponse changeProduct(String phoneNumber, String productCode, String changeReason,
+                                        String idempotencyKey);
+
+    /**
+     * 상품 변경 요청을 접수하고 KT 영업시스템 호출은 작업 스레드에서 처리합니다.
+     * 변경 가능 여부는 접수 시점에 확인합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param changeReason 변경 사유
+     * @param idempotencyKey 멱등 키 (없으면 null)
+     * @return 접수된 요청의 처리 상태
+     */
+    ProductChangeStatusResponse requestProductChangeAsync(String phoneNumber, String productCode, String changeReason,
+                                                          String idempotencyKey);
+
+    /**
+     * 상품 변경 요청의 처리 상태를 조회합니다.
+     *
+     * @param requestId 요청 ID
+     * @return 처리 상태
+     */
+    ProductChangeStatusResponse getProductChangeStatus(String requestId);
 }
@@ -7,8 +7,12 @@ import com.ktds.mvne.product.adapter.KTAdapter;
 import com.ktds.mvne.product.dto.CustomerInfoResponseDTO;
 import com.ktds.mvne.product.dto.ProductCheckResponse;
 import com.ktds.mvne.product.dto.ProductChangeResponse;
+import com.ktds.mvne.product.dto.ProductChangeStatusResponse;
 import com.ktds.mvne.product.dto.ProductInfoDTO;
+import com.ktds.mvne.product.repository.EligibilityCheckRepository;
 import com.ktds.mvne.product.repository.ProductChangeResultRepository;
+import com.ktds.mvne.product.domain.EligibilityCheck;
+import com.ktds.mvne.product.domain.EligibilityReason;
 import com.ktds.mvne.product.domain.ProductChangeResult;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -16,11 +20,20 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 상품 정보 및 변경 관련 서비스 구현체입니다.
@@ -29,8 +42,17 @@ import java.util.UUID;
 @Slf4j
 public class ProductServiceImpl implements ProductService {
 
+    private static final String QUEUED_MESSAGE = "요청이 큐에 저장되었습니다. 잠시 후에 처리됩니다.";
+
     private final KTAdapter ktAdapter;
     private final CustomerService customerService;
+    private final ProductCatalog productCatalog;
+    private final ExecutorService productLookupExecutor;
+    private final EligibilityCheckRepository eligibilityCheckRepository;
+    private final Counter productEligibilityReuseCounter;
+    private final ProductWorker productWorker;
+    private final Executor taskExecutor;
+    private final ProductChangeDeduplicator productChangeDeduplicator;
     private final ProductChangeResultRepository resultRepository;
     private final Timer productChangeOperationTimer;
     private final Timer circuitBreakerOperationTimer;
@@ -43,9 +65,22 @@ public class ProductServiceImpl implements ProductService {
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final MeterRegistry meterRegistry;
 
+    @Value("${product.eligibility.reuse.enabled:true}")
+    private boolean eligibilityReuseEnabled;
+
+    @Value("${product.eligibility.reuse.freshness-seconds:60}")
+    private long eligibilityFreshnessSeconds;
+
     public ProductServiceImpl(
             KTAdapter ktAdapter,
             CustomerService customerService,
+            ProductCatalog productCatalog,
+            ExecutorService productLookupExecutor,
+            EligibilityCheckRepository eligibilityCheckRepository,
+            Counter productEligibilityReuseCounter,
+            ProductWorker productWorker,
+            Executor taskExecutor,
+            ProductChangeDeduplicator productChangeDeduplicator,
             ProductChangeResultRepository resultRepository,
             Timer productChangeOperationTimer,
             Timer circuitBreakerOperationTimer,
@@ -59,6 +94,13 @@ public class ProductServiceImpl implements ProductService {
             MeterRegistry meterRegistry) {
         this.ktAdapter = ktAdapter;
         this.customerService = customerService;
+        this.productCatalog = productCatalog;
+        this.productLookupExecutor = productLookupExecutor;
+        this.eligibilityCheckRepository = eligibilityCheckRepository;
+        this.productEligibilityReuseCounter = productEligibilityReuseCounter;
+        this.productWorker = productWorker;
+        this.taskExecutor = taskExecutor;
+        this.productChangeDeduplicator = productChangeDeduplicator;
         this.resultRepository = resultRepository;
         this.productChangeOperationTimer = productChangeOperationTimer;
         this.circuitBreakerOperationTimer = circuitBreakerOperationTimer;
@@ -102,6 +144,7 @@ public class ProductServiceImpl implements ProductService {
 
     /**
      * 상품 변경 가능 여부를 확인합니다.
+     * 판정 결과는 기록되어 유효 기간 내의 상품 변경 요청에서 재검증 없이 한 번 사용됩니다.
      *
      * @param phoneNumber 회선 번호
      * @param productCode 변경하려는 상품 코드
@@ -109,98 +152,269 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     public ProductCheckResponse checkProductChangeAvailability(String phoneNumber, String productCode) {
+        return checkAndRecordAvailability(phoneNumber, productCode, true);
+    }
+
+    /**
+     * 상품 변경 가능 여부를 확인하고 필요하면 판정 결과를 기록합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param record 이후 상품 변경 요청에서 재사용할 수 있도록 판정을 기록할지 여부
+     *               (상품 변경 요청 안에서 바로 사용하는 판정은 재사용되지 않으므로 기록하지 않음)
+     * @return 상품 변경 가능 여부 및 정보
+     */
+    private ProductCheckResponse checkAndRecordAvailability(String phoneNumber, String productCode, boolean record) {
         validatePhoneNumber(phoneNumber);
         validateProductCode(productCode);
 
+        ProductCheckResponse response;
         try {
-            // 1. 고객 정보 및 상태 확인
-            CustomerInfoResponseDTO customerInfo = customerService.getCustomerInfo(phoneNumber);
-
-            // 고객 정보나 현재 상품 정보가 없는 경우 처리
-            if (customerInfo == null || customerInfo.getCurrentProduct() == null) {
-                log.warn("Customer info or current product is null for phoneNumber: {}", phoneNumber);
-                return ProductCheckResponse.builder()
-                        .available(false)
-                        .message("고객 정보를 조회할 수 없습니다.")
-                        .build();
-            }
+            response = evaluateAvailability(phoneNumber, productCode);
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Error checking product change availability for {}, {}: {}",
+                    phoneNumber, productCode, cause.getMessage(), cause);
 
-            // 2. 현재 사용 중인 상품과 변경하려는 상품이 같은 경우
-            if (customerInfo.getCurrentProduct().getProductCode().equals(productCode)) {
-                log.info("Customer already using the requested product: {}", productCode);
-                return ProductCheckResponse.builder()
-                        .available(false)
-                        .message("이미 해당 상품을 사용 중입니다.")
-                        .currentProduct(customerInfo.getCurrentProduct())
-                        .targetProduct(customerInfo.getCurrentProduct())
-                        .build();
-            }
+            // 예외 발생 시 false 응답 반환 (서비스 장애 방지), 일시적 오류이므로 판정으로 기록하지 않음
+            return ProductCheckResponse.builder()
+                    .available(false)
+                    .message("상품 변경 가능 여부 확인 중 오류가 발생했습니다: " + cause.getMessage())
+                    .build();
+        }
 
-            // 3. 회선 상태 확인 (정지 상태가 아니어야 함)
-            if (!"ACTIVE".equals(customerInfo.getStatus())) {
-                log.info("Line status is not active: {}", customerInfo.getStatus());
-                return ProductCheckResponse.builder()
-                        .available(false)
-                        .message("정지 상태의 회선은 상품 변경이 불가능합니다.")
-                        .currentProduct(customerInfo.getCurrentProduct())
-                        .targetProduct(null)
-                        .build();
-            }
+        if (record) {
+            recordEligibility(phoneNumber, productCode, response);
+        }
+        return response;
+    }
 
-            // 4. 변경하려는 상품 정보 조회
-            ProductInfoDTO targetProduct = null;
-            try {
-                targetProduct = ktAdapter.getProductInfo(productCode);
-            } catch (Exception e) {
-                log.error("Failed to get target product info: {}", e.getMessage(), e);
-            }
+    /**
+     * 고객 정보와 상품 정보를 조회하여 상품 변경 가능 여부를 판정합니다.
+     * 두 조회를 동시에 수행하며, 먼저 확인된 부적격 사유가 있으면 나머지 조회를 기다리지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @return 상품 변경 가능 여부 및 정보
+     */
+    private ProductCheckResponse evaluateAvailability(String phoneNumber, String productCode) {
+        // 고객 정보와 변경하려는 상품 정보는 서로 독립적이므로 동시에 조회
+        CompletableFuture<CustomerInfoResponseDTO> customerFuture = CompletableFuture.supplyAsync(
+                () -> customerService.getCustomerInfo(phoneNumber), productLookupExecutor);
+        CompletableFuture<ProductInfoDTO> targetProductFuture = lookupTargetProduct(productCode);
+
+        // 상품 조회가 먼저 끝나고 존재하지 않는 상품이면 고객 조회를 기다리지 않음
+        CompletableFuture.anyOf(customerFuture, targetProductFuture).join();
+        if (!customerFuture.isDone() && targetProductFuture.join() == null) {
+            log.warn("Target product info is null for productCode: {}", productCode);
+            customerFuture.cancel(false);
+            return ProductCheckResponse.builder()
+                    .available(false)
+                    .message("존재하지 않는 상품입니다.")
+                    .build();
+        }
 
-            if (targetProduct == null) {
-                log.warn("Target product info is null for productCode: {}", productCode);
-                return ProductCheckResponse.builder()
-                        .available(false)
-                        .message("존재하지 않는 상품입니다.")
-                        .currentProduct(customerInfo.getCurrentProduct())
-                        .targetProduct(null)
-                        .build();
-            }
+        // 1. 고객 정보 및 상태 확인
+        CustomerInfoResponseDTO customerInfo = customerFuture.join();
+
+        // 고객 정보나 현재 상품 정보가 없는 경우 처리
+        if (customerInfo == null || customerInfo.getCurrentProduct() == null) {
+            log.warn("Customer info or current product is null for phoneNumber: {}", phoneNumber);
+            targetProductFuture.cancel(false);
+            return ProductCheckResponse.builder()
+                    .available(false)
+                    .message("고객 정보를 조회할 수 없습니다.")
+                    .build();
+        }
 
-            // 5. 변경 가능 여부 확인 - 정상적으로 처리된 경우
-            log.info("Product change is available from {} to {}",
-                    customerInfo.getCurrentProduct().getProductCode(), productCode);
+        // 2. 현재 사용 중인 상품과 변경하려는 상품이 같은 경우
+        if (customerInfo.getCurrentProduct().getProductCode().equals(productCode)) {
+            log.info("Customer already using the requested product: {}", productCode);
+            targetProductFuture.cancel(false);
             return ProductCheckResponse.builder()
-                    .available(true)
-                    .message("상품 변경이 가능합니다.")
+                    .available(false)
+                    .message("이미 해당 상품을 사용 중입니다.")
                     .currentProduct(customerInfo.getCurrentProduct())
-                    .targetProduct(targetProduct)
+                    .targetProduct(customerInfo.getCurrentProduct())
                     .build();
-        } catch (Exception e) {
-            log.error("Error checking product change availability for {}, {}: {}",
-                    phoneNumber, productCode, e.getMessage(), e);
+        }
 
-            // 예외 발생 시 false 응답 반환 (서비스 장애 방지)
+        // 3. 회선 상태 확인 (정지 상태가 아니어야 함)
+        if (!"ACTIVE".equals(customerInfo.getStatus())) {
+            log.info("Line status is not active: {}", customerInfo.getStatus());
+            targetProductFuture.cancel(false);
             return ProductCheckResponse.builder()
                     .available(false)
-                    .message("상품 변경 가능 여부 확인 중 오류가 발생했습니다: " + e.getMessage())
+                    .message("정지 상태의 회선은 상품 변경이 불가능합니다.")
+                    .currentProduct(customerInfo.getCurrentProduct())
+                    .targetProduct(null)
+                    .build();
+        }
+
+        // 4. 변경하려는 상품 정보 확인
+        ProductInfoDTO targetProduct = targetProductFuture.join();
+
+        if (targetProduct == null) {
+            log.warn("Target product info is null for productCode: {}", productCode);
+            return ProductCheckResponse.builder()
+                    .available(false)
+                    .message("존재하지 않는 상품입니다.")
+                    .currentProduct(customerInfo.getCurrentProduct())
+                    .targetProduct(null)
+                    .build();
+        }
+
+        // 5. 변경 가능 여부 확인 - 정상적으로 처리된 경우
+        log.info("Product change is available from {} to {}",
+                customerInfo.getCurrentProduct().getProductCode(), productCode);
+        return ProductCheckResponse.builder()
+                .available(true)
+                .message("상품 변경이 가능합니다.")
+                .currentProduct(customerInfo.getCurrentProduct())
+                .targetProduct(targetProduct)
+                .build();
+    }
+
+    /**
+     * 적격성 판정 결과를 기록합니다.
+     * 기록 실패는 판정 결과에 영향을 주지 않습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param response 판정 결과
+     */
+    private void recordEligibility(String phoneNumber, String productCode, ProductCheckResponse response) {
+        if (!eligibilityReuseEnabled) {
+            return;
+        }
+
+        try {
+            boolean eligible = response.isAvailable();
+            EligibilityCheck check = EligibilityCheck.builder()
+                    .custId(phoneNumber)
+                    .lineNumber(phoneNumber)
+                    .productCode(productCode)
+                    .eligible(eligible)
+                    .lineStatus(eligible ? "ACTIVE" : null)
+                    .productStatus(response.getTargetProduct() != null ? "ACTIVE" : null)
+                    .stampId(UUID.randomUUID().toString())
                     .build();
+            if (!eligible) {
+                check.getReasons().add(EligibilityReason.builder()
+                        .eligibilityCheck(check)
+                        .reason(response.getMessage())
+                        .build());
+            }
+            eligibilityCheckRepository.save(check);
+        } catch (Exception e) {
+            log.warn("Failed to record eligibility check for {}, {}: {}", phoneNumber, productCode, e.getMessage());
         }
     }
 
+    /**
+     * 유효 기간 내에 기록된 미사용 적격 판정이 있으면 사용 처리합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @return 재사용 가능한 적격 판정이 있었는지 여부
+     */
+    private boolean consumeRecentEligibility(String phoneNumber, String productCode) {
+        if (!eligibilityReuseEnabled) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int consumed = eligibilityCheckRepository.consumeRecentEligible(
+                phoneNumber, productCode, now.minusSeconds(eligibilityFreshnessSeconds), now);
+        return consumed > 0;
+    }
+
+    /**
+     * 유효 기간이 지난 적격성 판정과 사유를 주기적으로 삭제합니다.
+     * 유효 기간이 지난 판정은 사용 여부와 관계없이 다시 사용되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${product.eligibility.cleanup-interval-ms:60000}")
+    public void purgeExpiredEligibilityChecks() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(eligibilityFreshnessSeconds);
+            eligibilityCheckRepository.deleteReasonsCreatedBefore(cutoff);
+            int deleted = eligibilityCheckRepository.deleteCreatedBefore(cutoff);
+            if (deleted > 0) {
+                log.debug("Purged {} expired eligibility checks", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge expired eligibility checks: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경하려는 상품 정보를 조회합니다.
+     * 카탈로그가 적재되어 있으면 즉시 완료된 결과를 반환하고, 그렇지 않으면 KT 어댑터를 비동기로 호출합니다.
+     *
+     * @param productCode 상품 코드
+     * @return 상품 정보를 담은 future, 존재하지 않거나 조회에 실패하면 null로 완료
+     */
+    private CompletableFuture<ProductInfoDTO> lookupTargetProduct(String productCode) {
+        if (productCatalog.isLoaded()) {
+            return CompletableFuture.completedFuture(productCatalog.getProductInfo(productCode));
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ktAdapter.getProductInfo(productCode);
+            } catch (Exception e) {
+                log.error("Failed to get target product info: {}", e.getMessage(), e);
+                return null;
+            }
+        }, productLookupExecutor);
+    }
+
     /**
      * 상품을 변경합니다.
      * 서킷 브레이커 패턴이 적용되어 있어, KT 어댑터 호출 실패 시 지정된 폴백 메소드가 실행됩니다.
+     * KT 어댑터 호출 동안 DB 커넥션을 점유하지 않도록 요청 기록과 결과 기록을 각각 별도의 짧은 트랜잭션으로 저장합니다.
+     * 결과 기록 전에 인스턴스가 중단되어 REQUESTED로 남은 요청은 워커가 다시 처리합니다.
+     * 멱등 키가 있으면 같은 키의 요청은 한 번만 처리하고, 이후 요청에는 저장된 결과를 반환합니다.
      *
      * @param phoneNumber 회선 번호
      * @param productCode 변경하려는 상품 코드
      * @param changeReason 변경 사유
+     * @param idempotencyKey 멱등 키 (없으면 null)
      * @return 상품 변경 결과
      */
     @Override
-    @Transactional
     @CircuitBreaker(name = "productChange", fallbackMethod = "changeProductFallback")
-    public ProductChangeResponse changeProduct(String phoneNumber, String productCode, String changeReason) {
+    public ProductChangeResponse changeProduct(String phoneNumber, String productCode, String changeReason,
+                                               String idempotencyKey) {
         validatePhoneNumber(phoneNumber);
         validateProductCode(productCode);
+
+        if (idempotencyKey == null) {
+            return executeProductChange(phoneNumber, productCode, changeReason, null);
+        }
+
+        validateIdempotencyKey(idempotencyKey);
+        return productChangeDeduplicator.execute(idempotencyKey, phoneNumber, productCode, () -> {
+            // 다른 인스턴스나 이전 요청에서 이미 기록된 키이면 저장된 결과 반환
+            Optional<ProductChangeResult> existing = resultRepository.findByIdempotencyKey(idempotencyKey);
+            if (existing.isPresent()) {
+                return replayProductChange(existing.get(), phoneNumber, productCode);
+            }
+            return executeProductChange(phoneNumber, productCode, changeReason, idempotencyKey);
+        }, response -> !isQueuedResponse(response));
+    }
+
+    /**
+     * 상품 변경 가능 여부를 확인하고 요청을 기록한 뒤 KT 어댑터로 상품을 변경합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param changeReason 변경 사유
+     * @param idempotencyKey 멱등 키 (없으면 null)
+     * @return 상품 변경 결과
+     */
+    private ProductChangeResponse executeProductChange(String phoneNumber, String productCode, String changeReason,
+                                                       String idempotencyKey) {
         productChangeRequestCounter.increment();
 
         log.info("Requesting product change - phoneNumber: {}, productCode: {}, reason: {}",
@@ -209,15 +423,10 @@ public class ProductServiceImpl implements ProductService {
         // 타이머 시작
         Timer.Sample productChangeSample = Timer.start();
 
-        // 1. 상품 변경 가능 여부 확인
-        ProductCheckResponse checkResponse = checkProductChangeAvailability(phoneNumber, productCode);
-        if (!checkResponse.isAvailable()) {
-            log.warn("Product change not available: {}", checkResponse.getMessage());
-            productChangeErrorCounter.increment();
-            throw new BizException(ErrorCode.BAD_REQUEST, checkResponse.getMessage());
-        }
+        // 1. 상품 변경 가능 여부 확인 (유효 기간 내 적격 판정이 있으면 재검증 생략)
+        ensureChangeAvailable(phoneNumber, productCode);
 
-        // 2. 상품 변경 요청 생성
+        // 2. 상품 변경 요청 기록 (KT 어댑터 호출 전에 커밋)
         String requestId = UUID.randomUUID().toString();
         log.info("Creating product change request with ID: {}", requestId);
 
@@ -228,8 +437,21 @@ public class ProductServiceImpl implements ProductService {
                 .changeReason(changeReason)
                 .status("REQUESTED")
                 .timestamp(LocalDateTime.now())
+                .attemptCount(1)
+                .idempotencyKey(idempotencyKey)
                 .build();
-        resultRepository.save(result);
+        try {
+            resultRepository.saveTracked(result);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 멱등 키로 먼저 기록한 경우
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            log.info("Product change with idempotency key {} was recorded concurrently", idempotencyKey);
+            return resultRepository.findByIdempotencyKey(idempotencyKey)
+                    .map(existing -> replayProductChange(existing, phoneNumber, productCode))
+                    .orElseThrow(() -> e);
+        }
 
         try {
             // 3. KT 어댑터를 통해 상품 변경 요청
@@ -237,11 +459,24 @@ public class ProductServiceImpl implements ProductService {
             ProductChangeResponse response = ktAdapter.changeProduct(phoneNumber, productCode, changeReason);
             circuitBreakerSample.stop(circuitBreakerOperationTimer);
 
-            // 4. 변경 결과 저장
+            // 응답을 받지 못한 경우 결과를 확정하지 않고 워커와 같은 백오프 규칙으로 큐에 넣음
+            if (!response.isSuccess() && productWorker.isTransientFailure(response)) {
+                productWorker.scheduleRetryOrDeadLetter(result, response.getMessage());
+                productChangeSample.stop(productChangeOperationTimer);
+                productChangeAsyncCounter.increment();
+                return "QUEUED".equals(result.getStatus()) ? queuedResponse(result) : response;
+            }
+
+            // 4. 변경 결과 기록
             result.setStatus(response.isSuccess() ? "COMPLETED" : "FAILED");
             result.setTransactionId(response.getTransactionId());
             result.setErrorMessage(response.isSuccess() ? null : response.getMessage());
-            resultRepository.save(result);
+            resultRepository.saveTracked(result);
+
+            // 상품이 바뀌었으므로 캐시된 고객 정보 제거
+            if (response.isSuccess()) {
+                customerService.evictCustomerInfo(phoneNumber);
+            }
 
             log.info("Product change request processed - status: {}, transactionId: {}",
                     result.getStatus(), result.getTransactionId());
@@ -252,12 +487,24 @@ public class ProductServiceImpl implements ProductService {
             productChangeSyncCounter.increment();
 
             return response;
+        } catch (OptimisticLockingFailureException e) {
+            // 선점 만료로 워커가 이 요청을 다시 선점한 경우, 결과는 워커의 처리에 맡김
+            log.warn("Product change request {} was reclaimed by a worker, leaving the outcome to it",
+                    result.getRequestId());
+            productChangeSample.stop(productChangeOperationTimer);
+            productChangeAsyncCounter.increment();
+            return queuedResponse(result);
         } catch (Exception e) {
             // 예외 발생 시 실패 상태로 저장
             log.error("Exception occurred during product change: {}", e.getMessage(), e);
-            result.setStatus("FAILED");
-            result.setErrorMessage(e.getMessage());
-            resultRepository.save(result);
+            if (idempotencyKey != null) {
+                // 멱등 키 요청은 폴백이 새 요청을 만들지 않으므로 이 요청을 재시도 대상으로 둠
+                productWorker.scheduleRetryOrDeadLetter(result, e.getMessage());
+            } else {
+                result.setStatus("FAILED");
+                result.setErrorMessage(e.getMessage());
+                resultRepository.saveTracked(result);
+            }
 
             // 타이머 종료 및 카운터 증가
             productChangeSample.stop(productChangeOperationTimer);
@@ -269,47 +516,301 @@ public class ProductServiceImpl implements ProductService {
     }
 
     /**
-     * 상품 변경 서킷 브레이커 폴백 메소드입니다.
-     * KT 어댑터 호출 실패 시 비동기 처리를 위해 요청을 큐에 저장합니다.
+     * 상품 변경 요청을 접수하고 KT 영업시스템 호출은 작업 스레드에서 처리합니다.
+     * 작업 스레드 풀이 가득 차면 요청을 큐(QUEUED)에 넣어 워커가 처리하도록 합니다.
+     * 이미 접수된 멱등 키이면 새로 접수하지 않고 기존 요청의 상태를 반환합니다.
      *
      * @param phoneNumber 회선 번호
      * @param productCode 변경하려는 상품 코드
      * @param changeReason 변경 사유
-     * @param t 발생한 예외
-     * @return 폴백 응답
+     * @param idempotencyKey 멱등 키 (없으면 null)
+     * @return 접수된 요청의 처리 상태
      */
-    public ProductChangeResponse changeProductFallback(String phoneNumber, String productCode,
-                                                       String changeReason, Throwable t) {
-        log.warn("Circuit breaker is open. Falling back for productChange: {}, {}", phoneNumber, productCode, t);
+    @Override
+    public ProductChangeStatusResponse requestProductChangeAsync(String phoneNumber, String productCode,
+                                                                 String changeReason, String idempotencyKey) {
+        validatePhoneNumber(phoneNumber);
+        validateProductCode(productCode);
 
-        // 비동기 처리를 위한 카운터 증가
-        productChangeAsyncCounter.increment();
+        // 이미 접수된 멱등 키이면 기존 요청의 상태 반환
+        if (idempotencyKey != null) {
+            validateIdempotencyKey(idempotencyKey);
+            Optional<ProductChangeStatusResponse> existing = findIdempotentStatus(idempotencyKey, phoneNumber, productCode);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
 
-        // 1. 폴백 처리를 위한 요청 ID 생성
-        String requestId = UUID.randomUUID().toString();
+        productChangeRequestCounter.increment();
+
+        log.info("Accepting async product change - phoneNumber: {}, productCode: {}, reason: {}",
+                phoneNumber, productCode, changeReason);
 
-        // 2. 비동기 처리를 위한 상품 변경 결과 저장
+        // 1. 상품 변경 가능 여부 확인 (부적격이면 접수하지 않음)
+        ensureChangeAvailable(phoneNumber, productCode);
+
+        // 2. 상품 변경 요청 접수
+        String requestId = UUID.randomUUID().toString();
         ProductChangeResult result = ProductChangeResult.builder()
                 .requestId(requestId)
                 .phoneNumber(phoneNumber)
                 .productCode(productCode)
                 .changeReason(changeReason)
-                .status("QUEUED")
-                .errorMessage("서비스 일시 지연: " + t.getMessage())
+                .status("REQUESTED")
                 .timestamp(LocalDateTime.now())
+                .attemptCount(0)
+                .idempotencyKey(idempotencyKey)
+                .build();
+        try {
+            resultRepository.saveTracked(result);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 멱등 키로 먼저 접수한 경우
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            return findIdempotentStatus(idempotencyKey, phoneNumber, productCode).orElseThrow(() -> e);
+        }
+
+        // 작업 스레드가 엔티티를 바로 수정하므로 응답은 제출 전에 만들어 둠
+        ProductChangeStatusResponse accepted = toStatusResponse(result);
+
+        // 3. KT 어댑터 호출을 작업 스레드에 위임
+        try {
+            taskExecutor.execute(() -> productWorker.processAccepted(result));
+        } catch (RejectedExecutionException e) {
+            log.warn("Task executor is saturated, queueing product change request {}", requestId);
+            result.setStatus("QUEUED");
+            result.setNextAttemptAt(LocalDateTime.now());
+            resultRepository.saveTracked(result);
+            accepted.setStatus("QUEUED");
+        }
+
+        productChangeAsyncCounter.increment();
+        log.info("Product change request accepted - requestId: {}, status: {}", requestId, accepted.getStatus());
+        return accepted;
+    }
+
+    /**
+     * 상품 변경 요청의 처리 상태를 조회합니다.
+     *
+     * @param requestId 요청 ID
+     * @return 처리 상태
+     * @throws BizException 요청 ID에 해당하는 요청이 없는 경우
+     */
+    @Override
+    public ProductChangeStatusResponse getProductChangeStatus(String requestId) {
+        return resultRepository.findByRequestId(requestId)
+                .map(this::toStatusResponse)
+                .orElseThrow(() -> new BizException(ErrorCode.NOT_FOUND, "상품 변경 요청을 찾을 수 없습니다: " + requestId));
+    }
+
+    /**
+     * 상품 변경이 가능한지 확인하고, 불가능하면 예외를 발생시킵니다.
+     * 유효 기간 내에 기록된 적격 판정이 있으면 재검증을 생략합니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @throws BizException 상품 변경이 불가능한 경우
+     */
+    private void ensureChangeAvailable(String phoneNumber, String productCode) {
+        if (consumeRecentEligibility(phoneNumber, productCode)) {
+            log.info("Reusing recent eligibility check for {}, {}", phoneNumber, productCode);
+            productEligibilityReuseCounter.increment();
+            return;
+        }
+
+        ProductCheckResponse checkResponse = checkAndRecordAvailability(phoneNumber, productCode, false);
+        if (!checkResponse.isAvailable()) {
+            log.warn("Product change not available: {}", checkResponse.getMessage());
+            productChangeErrorCounter.increment();
+            throw new BizException(ErrorCode.BAD_REQUEST, checkResponse.getMessage());
+        }
+    }
+
+    /**
+     * 상품 변경 결과 엔티티를 처리 상태 응답으로 변환합니다.
+     *
+     * @param result 상품 변경 결과
+     * @return 처리 상태 응답
+     */
+    private ProductChangeStatusResponse toStatusResponse(ProductChangeResult result) {
+        return ProductChangeStatusResponse.builder()
+                .requestId(result.getRequestId())
+                .phoneNumber(result.getPhoneNumber())
+                .productCode(result.getProductCode())
+                .status(result.getStatus())
+                .transactionId(result.getTransactionId())
+                .errorMessage(result.getErrorMessage())
+                .attemptCount(result.getAttemptCount())
+                .nextAttemptAt(result.getNextAttemptAt())
+                .updatedAt(result.getTimestamp())
                 .build();
-        resultRepository.save(result);
+    }
+
+    /**
+     * 이미 기록된 멱등 키 요청의 결과를 상품 변경 응답으로 반환합니다.
+     *
+     * @param existing 같은 멱등 키로 기록된 상품 변경 결과
+     * @param phoneNumber 현재 요청의 회선 번호
+     * @param productCode 현재 요청의 상품 코드
+     * @return 저장된 상품 변경 결과
+     * @throws BizException 키가 다른 요청에 사용되었거나 기존 요청이 아직 처리 중인 경우
+     */
+    private ProductChangeResponse replayProductChange(ProductChangeResult existing, String phoneNumber,
+                                                      String productCode) {
+        verifyIdempotentRequest(existing, phoneNumber, productCode);
+
+        switch (existing.getStatus()) {
+            case "COMPLETED":
+                return ProductChangeResponse.builder()
+                        .success(true)
+                        .message("상품 변경이 완료되었습니다.")
+                        .transactionId(existing.getTransactionId())
+                        .build();
+            case "FAILED":
+            case "DEAD_LETTER":
+                return ProductChangeResponse.builder()
+                        .success(false)
+                        .message(existing.getErrorMessage())
+                        .transactionId(existing.getTransactionId())
+                        .build();
+            default:
+                throw new BizException(ErrorCode.CONFLICT,
+                        "동일한 상품 변경 요청이 처리 중입니다. (requestId: " + existing.getRequestId() + ")");
+        }
+    }
 
-        log.info("Product change request queued - requestId: {}", requestId);
+    /**
+     * 멱등 키로 이미 접수된 요청의 처리 상태를 조회합니다.
+     *
+     * @param idempotencyKey 멱등 키
+     * @param phoneNumber 현재 요청의 회선 번호
+     * @param productCode 현재 요청의 상품 코드
+     * @return 처리 상태, 접수된 요청이 없으면 빈 값
+     */
+    private Optional<ProductChangeStatusResponse> findIdempotentStatus(String idempotencyKey, String phoneNumber,
+                                                                       String productCode) {
+        return resultRepository.findByIdempotencyKey(idempotencyKey)
+                .map(existing -> {
+                    verifyIdempotentRequest(existing, phoneNumber, productCode);
+                    return toStatusResponse(existing);
+                });
+    }
+
+    /**
+     * 멱등 키가 같은 회선/상품 요청에 사용되었는지 확인합니다.
+     *
+     * @param existing 같은 멱등 키로 기록된 상품 변경 결과
+     * @param phoneNumber 현재 요청의 회선 번호
+     * @param productCode 현재 요청의 상품 코드
+     * @throws BizException 다른 요청에 사용된 키인 경우
+     */
+    private void verifyIdempotentRequest(ProductChangeResult existing, String phoneNumber, String productCode) {
+        if (!existing.getPhoneNumber().equals(phoneNumber) || !existing.getProductCode().equals(productCode)) {
+            throw new BizException(ErrorCode.CONFLICT, "다른 요청에 이미 사용된 멱등 키입니다.");
+        }
+    }
+
+    /**
+     * 상품 변경 서킷 브레이커 폴백 메소드입니다.
+     * KT 어댑터 호출 실패 시 비동기 처리를 위해 요청을 큐에 저장합니다.
+     * 검증 실패, 변경 불가, 멱등 키 충돌 같은 요청 자체의 문제는 큐에 넣지 않고 그대로 전달합니다.
+     * 멱등 키가 있으면 새 요청을 만들지 않고 같은 키로 기록된 요청을 다시 큐에 넣습니다.
+     *
+     * @param phoneNumber 회선 번호
+     * @param productCode 변경하려는 상품 코드
+     * @param changeReason 변경 사유
+     * @param idempotencyKey 멱등 키 (없으면 null)
+     * @param t 발생한 예외
+     * @return 폴백 응답
+     */
+    public ProductChangeResponse changeProductFallback(String phoneNumber, String productCode,
+                                                       String changeReason, String idempotencyKey, Throwable t) {
+        if (t instanceof BizException bizException) {
+            throw bizException;
+        }
+
+        log.warn("Circuit breaker is open. Falling back for productChange: {}, {}", phoneNumber, productCode, t);
+
+        // 비동기 처리를 위한 카운터 증가
+        productChangeAsyncCounter.increment();
+
+        // 1. 같은 멱등 키로 기록된 요청이 있으면 그 요청을 다시 큐에 넣음
+        ProductChangeResult result = idempotencyKey != null
+                ? resultRepository.findByIdempotencyKey(idempotencyKey).orElse(null)
+                : null;
+        if (result != null) {
+            if ("COMPLETED".equals(result.getStatus()) || "FAILED".equals(result.getStatus())
+                    || "DEAD_LETTER".equals(result.getStatus())) {
+                return replayProductChange(result, phoneNumber, productCode);
+            }
+            // 결과가 기록되기 전의 요청만 다시 큐에 넣고, 이미 큐에 있거나 처리 중인 요청은 그대로 둠
+            if ("REQUESTED".equals(result.getStatus())) {
+                result.setStatus("QUEUED");
+                result.setErrorMessage("서비스 일시 지연: " + t.getMessage());
+                result.setTimestamp(LocalDateTime.now());
+                result.setNextAttemptAt(LocalDateTime.now());
+                resultRepository.saveTracked(result);
+            }
+        } else {
+            // 2. 비동기 처리를 위한 상품 변경 결과 저장
+            result = ProductChangeResult.builder()
+                    .requestId(UUID.randomUUID().toString())
+                    .phoneNumber(phoneNumber)
+                    .productCode(productCode)
+                    .changeReason(changeReason)
+                    .status("QUEUED")
+                    .errorMessage("서비스 일시 지연: " + t.getMessage())
+                    .timestamp(LocalDateTime.now())
+                    .attemptCount(0)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .idempotencyKey(idempotencyKey)
+                    .build();
+            resultRepository.saveTracked(result);
+        }
+
+        log.info("Product change request queued - requestId: {}", result.getRequestId());
 
         // 3. 폴백 응답 생성
+        return queuedResponse(result);
+    }
+
+    /**
+     * 큐에 저장된 상품 변경 요청의 응답을 생성합니다.
+     *
+     * @param result 큐에 저장된 상품 변경 결과
+     * @return 요청 ID를 트랜잭션 ID로 담은 응답
+     */
+    private ProductChangeResponse queuedResponse(ProductChangeResult result) {
         return ProductChangeResponse.builder()
                 .success(false)
-                .message("요청이 큐에 저장되었습니다. 잠시 후에 처리됩니다.")
-                .transactionId(requestId)
+                .message(QUEUED_MESSAGE)
+                .transactionId(result.getRequestId())
                 .build();
     }
 
+    /**
+     * 결과가 확정되지 않고 큐에 저장되었음을 알리는 응답인지 확인합니다.
+     *
+     * @param response 상품 변경 응답
+     * @return 큐 저장 응답 여부
+     */
+    private static boolean isQueuedResponse(ProductChangeResponse response) {
+        return !response.isSuccess() && QUEUED_MESSAGE.equals(response.getMessage());
+    }
+
+    /**
+     * 멱등 키의 유효성을 검사합니다.
+     *
+     * @param idempotencyKey 검사할 멱등 키
+     * @throws BizException 비어 있거나 너무 긴 경우
+     */
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > 100) {
+            throw new BizException(ErrorCode.BAD_REQUEST, "유효하지 않은 멱등 키입니다");
+        }
+    }
+
     /**
      * 전화번호의 유효성을 검사합니다.
      *
@@ -4,14 +4,25 @@ import com.ktds.mvne.product.adapter.KTAdapter;
 import com.ktds.mvne.product.domain.ProductChangeResult;
 import com.ktds.mvne.product.dto.ProductChangeResponse;
 import com.ktds.mvne.product.repository.ProductChangeResultRepository;
+import io.micrometer.core.instrument.Counter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 상품 변경 큐에 저장된 요청을 비동기적으로 처리하는 워커 클래스입니다.
@@ -23,66 +34,268 @@ public class ProductWorker {
 
     private final KTAdapter ktAdapter;
     private final ProductChangeResultRepository resultRepository;
+    private final CustomerService customerService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService productWorkerExecutor;
+    private final Counter productChangeRetryScheduledCounter;
+    private final Counter productChangeDeadLetterCounter;
+
+    @Value("${worker.product-change.batch-size:20}")
+    private int batchSize;
+
+    @Value("${worker.product-change.max-parallelism:4}")
+    private int maxParallelism;
+
+    @Value("${worker.product-change.claim-timeout-ms:300000}")
+    private long claimTimeoutMs;
+
+    @Value("${worker.product-change.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${worker.product-change.backoff.initial-ms:30000}")
+    private long backoffInitialMs;
+
+    @Value("${worker.product-change.backoff.max-ms:1800000}")
+    private long backoffMaxMs;
+
+    /**
+     * 다음 처리 시각 컬럼이 추가되기 전에 큐에 들어간 요청을 처리 대상에 포함시킵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillQueuedRequests() {
+        try {
+            int updated = resultRepository.backfillNextAttemptAt();
+            if (updated > 0) {
+                log.info("Backfilled next attempt time for {} queued product change requests", updated);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to backfill queued product change requests: {}", e.getMessage());
+        }
+    }
 
     /**
      * 상품 변경 큐에 저장된 요청을 주기적으로 처리합니다.
+     * 요청은 고정 크기 배치 단위로 선점(짧은 트랜잭션으로 커밋)한 뒤 트랜잭션 밖에서 병렬 처리하므로,
+     * 여러 인스턴스가 동시에 실행되어도 같은 요청을 중복 처리하지 않습니다.
      */
     @Scheduled(fixedDelayString = "${worker.retry-interval-ms:60000}")
-    @Transactional
     public void processProductChangeRequests() {
         log.debug("Processing queued product change requests");
-        
-        List<ProductChangeResult> queuedRequests = resultRepository.findByStatus("QUEUED");
-        if (queuedRequests.isEmpty()) {
+
+        int processed = 0;
+        List<ProductChangeResult> claimed;
+        do {
+            claimed = claimBatch();
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            log.info("Claimed {} queued product change requests", claimed.size());
+            processBatch(claimed);
+            processed += claimed.size();
+        } while (claimed.size() >= batchSize);
+
+        if (processed == 0) {
             log.debug("No queued requests found");
-            return;
         }
-        
-        log.info("Found {} queued product change requests", queuedRequests.size());
-        
-        for (ProductChangeResult request : queuedRequests) {
-            try {
-                log.info("Processing queued request: {}", request.getRequestId());
-                handleRetry(request);
-            } catch (Exception e) {
-                log.error("Error processing queued request {}: {}", request.getRequestId(), e.getMessage(), e);
-                updateFailedResult(request, e.getMessage());
+    }
+
+    /**
+     * 처리 대기 중인 요청을 한 배치만큼 선점합니다.
+     * 다음 처리 시각이 지난 요청만 (status, next_attempt_at) 인덱스로 조회하며,
+     * FOR UPDATE SKIP LOCKED로 잠근 행을 RETRYING으로 바꾸고 시도 횟수를 올린 뒤 곧바로 커밋합니다.
+     *
+     * @return 선점한 상품 변경 요청 목록
+     */
+    private List<ProductChangeResult> claimBatch() {
+        List<ProductChangeResult> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ProductChangeResult> batch = resultRepository.lockClaimableBatch(
+                    now, now.minus(Duration.ofMillis(claimTimeoutMs)), batchSize);
+            for (ProductChangeResult request : batch) {
+                if (!"QUEUED".equals(request.getStatus())) {
+                    log.warn("Reclaiming stale {} request: {}", request.getStatus(), request.getRequestId());
+                }
+                request.setStatus("RETRYING");
+                request.setTimestamp(now);
+                request.setAttemptCount(attemptsOf(request) + 1);
             }
+            return resultRepository.saveAll(batch);
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * 선점한 요청을 최대 동시 처리 수 이내에서 병렬로 처리하고 모두 끝날 때까지 기다립니다.
+     *
+     * @param batch 선점한 상품 변경 요청 목록
+     */
+    private void processBatch(List<ProductChangeResult> batch) {
+        Semaphore permits = new Semaphore(maxParallelism);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        for (ProductChangeResult request : batch) {
+            futures.add(CompletableFuture.runAsync(() -> processWithPermit(request, permits), productWorkerExecutor));
         }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
     }
 
     /**
-     * 상품 변경 요청을 재시도합니다.
+     * 동시 처리 허가를 얻은 뒤 요청 하나를 처리합니다.
      *
      * @param request 상품 변경 요청 결과
+     * @param permits 동시 처리 수 제한 세마포어
+     */
+    private void processWithPermit(ProductChangeResult request, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            // 선점 상태로 남은 요청은 선점 만료 후 다시 처리됨
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            log.info("Processing queued request: {}", request.getRequestId());
+            handleRetry(request);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Queued request {} was reclaimed by another worker, discarding stale result",
+                    request.getRequestId());
+        } catch (Exception e) {
+            log.error("Error processing queued request {}: {}", request.getRequestId(), e.getMessage(), e);
+            scheduleRetryOrDeadLetter(request, e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 비동기 모드로 접수된 요청을 바로 처리합니다.
+     * KT 어댑터 호출 전에 요청을 RETRYING으로 선점하므로, 작업 대기 중에 선점이 만료되어
+     * 다른 워커가 이미 가져간 요청은 다시 호출하지 않습니다.
+     * 일시적 실패는 큐 재처리와 같은 백오프 규칙으로 QUEUED에 넣어 이후 워커가 이어서 처리합니다.
+     *
+     * @param request 접수된(REQUESTED) 상품 변경 요청 결과
+     */
+    public void processAccepted(ProductChangeResult request) {
+        try {
+            request.setStatus("RETRYING");
+            request.setTimestamp(LocalDateTime.now());
+            request.setAttemptCount(attemptsOf(request) + 1);
+            resultRepository.saveTracked(request);
+
+            log.info("Processing accepted request: {}", request.getRequestId());
+            handleRetry(request);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Accepted request {} was claimed by another worker, skipping", request.getRequestId());
+        } catch (Exception e) {
+            log.error("Error processing accepted request {}: {}", request.getRequestId(), e.getMessage(), e);
+            scheduleRetryOrDeadLetter(request, e.getMessage());
+        }
+    }
+
+    /**
+     * 상품 변경 요청을 재시도합니다.
+     *
+     * @param request 선점된(RETRYING) 또는 접수된(REQUESTED) 상품 변경 요청 결과
      */
     private void handleRetry(ProductChangeResult request) {
         log.debug("Retrying product change for phoneNumber: {}, productCode: {}", 
                 request.getPhoneNumber(), request.getProductCode());
         
-        // 재시도 상태로 업데이트
-        request.setStatus("RETRYING");
-        request.setTimestamp(LocalDateTime.now());
-        resultRepository.save(request);
-        
         try {
             // KT 어댑터를 통해 상품 변경 요청
             ProductChangeResponse response = ktAdapter.changeProduct(
                     request.getPhoneNumber(), request.getProductCode(), request.getChangeReason());
             
-            // 성공한 경우 결과 업데이트
+            // 성공한 경우 결과 업데이트, 응답을 받지 못한 경우만 재시도하고 업무 거절은 바로 실패 처리
             if (response.isSuccess()) {
                 updateSuccessResult(request, response);
+            } else if (isTransientFailure(response)) {
+                scheduleRetryOrDeadLetter(request, response.getMessage());
             } else {
                 updateFailedResult(request, response.getMessage());
             }
+        } catch (OptimisticLockingFailureException e) {
+            // 다른 워커가 다시 선점한 요청이므로 결과를 덮어쓰지 않음
+            throw e;
         } catch (Exception e) {
             // 예외 발생 시 결과 업데이트
             log.error("Retry failed for request {}: {}", request.getRequestId(), e.getMessage(), e);
-            updateFailedResult(request, e.getMessage());
+            scheduleRetryOrDeadLetter(request, e.getMessage());
         }
     }
 
+    /**
+     * KT 어댑터가 응답을 받지 못해 기본 응답(거래 ID "UNKNOWN")을 반환한 경우인지 확인합니다.
+     * 거래 ID가 없는 실패 응답은 KOS의 업무 거절이므로 일시적 실패로 보지 않습니다.
+     *
+     * @param response KT 어댑터 응답
+     * @return 일시적 실패 여부
+     */
+    boolean isTransientFailure(ProductChangeResponse response) {
+        return "UNKNOWN".equals(response.getTransactionId());
+    }
+
+    /**
+     * 일시적으로 실패한 요청을 지수 백오프 후 재시도하도록 큐에 되돌립니다.
+     * 최대 시도 횟수에 도달하면 DEAD_LETTER로 전환합니다.
+     * 동기 상품 변경에서 응답을 받지 못한 요청도 같은 규칙으로 큐에 넣습니다.
+     *
+     * @param request 상품 변경 요청 결과
+     * @param errorMessage 오류 메시지
+     */
+    void scheduleRetryOrDeadLetter(ProductChangeResult request, String errorMessage) {
+        int attempts = attemptsOf(request);
+        if (attempts >= maxAttempts) {
+            request.setStatus("DEAD_LETTER");
+            request.setErrorMessage(errorMessage);
+            request.setTimestamp(LocalDateTime.now());
+            request.setNextAttemptAt(null);
+            resultRepository.saveTracked(request);
+            productChangeDeadLetterCounter.increment();
+            log.error("Request {} moved to dead letter after {} attempts: {}",
+                    request.getRequestId(), attempts, errorMessage);
+            return;
+        }
+
+        long delayMs = backoffDelayMs(attempts);
+        request.setStatus("QUEUED");
+        request.setErrorMessage(errorMessage);
+        request.setTimestamp(LocalDateTime.now());
+        request.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delayMs)));
+        resultRepository.saveTracked(request);
+        productChangeRetryScheduledCounter.increment();
+        log.warn("Request {} attempt {} failed, retrying in {} ms: {}",
+                request.getRequestId(), attempts, delayMs, errorMessage);
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간을 계산합니다.
+     * 지수적으로 늘어난 대기 시간의 절반은 고정, 나머지 절반은 무작위로 두어 재시도가 한꺼번에 몰리지 않게 합니다.
+     *
+     * @param attempts 지금까지의 시도 횟수 (1 이상)
+     * @return 대기 시간 (밀리초)
+     */
+    private long backoffDelayMs(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = Math.min(backoffMaxMs, backoffInitialMs << exponent);
+        if (delay <= 0) {
+            delay = backoffMaxMs;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * 시도 횟수를 반환합니다. 컬럼 추가 이전에 저장된 요청은 0으로 간주합니다.
+     *
+     * @param request 상품 변경 요청 결과
+     * @return 시도 횟수
+     */
+    private static int attemptsOf(ProductChangeResult request) {
+        return request.getAttemptCount() != null ? request.getAttemptCount() : 0;
+    }
+
     /**
      * 성공한 상품 변경 요청 결과를 업데이트합니다.
      *
@@ -94,7 +307,8 @@ public class ProductWorker {
         request.setTransactionId(response.getTransactionId());
         request.setErrorMessage(null);
         request.setTimestamp(LocalDateTime.now());
-        resultRepository.save(request);
+        resultRepository.saveTracked(request);
+        customerService.evictCustomerInfo(request.getPhoneNumber());
         log.info("Request {} processed successfully", request.getRequestId());
     }
 
@@ -106,9 +320,10 @@ public class ProductWorker {
      */
     private void updateFailedResult(ProductChangeResult request, String errorMessage) {
         request.setStatus("FAILED");
+        request.setNextAttemptAt(null);
         request.setErrorMessage(errorMessage);
         request.setTimestamp(LocalDateTime.now());
-        resultRepository.save(request);
+        resultRepository.saveTracked(request);
         log.warn("Request {} processing failed: {}", request.getRequestId(), errorMessage);
     }
 }